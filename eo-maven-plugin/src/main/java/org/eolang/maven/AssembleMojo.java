@@ -24,12 +24,20 @@
 package org.eolang.maven;
 
 import com.jcabi.log.Logger;
+import com.yegor256.tojos.Tojo;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.BiConsumer;
+import java.util.function.Predicate;
 import org.apache.maven.model.Dependency;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
@@ -38,6 +46,11 @@ import org.apache.maven.plugins.annotations.Parameter;
 /**
  * Pull all necessary EO XML files from Objectionary and parse them all.
  *
+ * <p>All mojos run in the first cycle. After that, only those mojos run
+ * that may have some work: new tojos waiting for them in the catalog,
+ * or a busy mojo before them in the cycle. The loop stops as soon as
+ * nobody is busy, without an extra cycle that would do nothing.</p>
+ *
  * @since 0.1
  * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
  */
@@ -122,6 +135,23 @@ public final class AssembleMojo extends SafeMojo {
     @Parameter(required = true, defaultValue = "master")
     private String hash = "master";
 
+    /**
+     * The {@link Bundle} with objects, to take them from before going
+     * to objectionary, see {@link BundleMojo}.
+     * @since 0.22
+     */
+    @Parameter(property = "eo.bundle")
+    private File bundle;
+
+    /**
+     * Validate parsed XMIRs against the XSD schema? Turn it off only
+     * when you trust the parser and need the build to be faster.
+     * @since 0.22
+     */
+    @SuppressWarnings("PMD.ImmutableField")
+    @Parameter(property = "eo.validate", defaultValue = "true")
+    private boolean validate = true;
+
     /**
      * The path to a text file where paths of all added
      * .class (and maybe others) files are placed.
@@ -135,7 +165,7 @@ public final class AssembleMojo extends SafeMojo {
     private File placed;
 
     /**
-     * Format of "placed" file ("json" or "csv").
+     * Format of "placed" file ("json", "csv" or "bin").
      * @checkstyle MemberNameCheck (7 lines)
      * @checkstyle VisibilityModifierCheck (5 lines)
      */
@@ -163,9 +193,12 @@ public final class AssembleMojo extends SafeMojo {
     @SuppressWarnings("PMD.AvoidDuplicateLiterals")
     public void exec() throws IOException {
         if (this.central == null) {
-            this.central = new Central(this.project, this.session, this.manager);
+            this.central = new Central(this.project, this.session, this.repos);
         }
-        String before = this.status();
+        final List<Tojo> start = this.rows();
+        String before = AssembleMojo.status(start);
+        final Map<String, Set<String>> seen = new HashMap<>(0);
+        AssembleMojo.busy(start, seen);
         int cycle = 0;
         final Moja<?>[] mojas = {
             new Moja<>(ParseMojo.class),
@@ -176,20 +209,30 @@ public final class AssembleMojo extends SafeMojo {
             new Moja<>(MarkMojo.class),
             new Moja<>(PlaceMojo.class),
         };
+        boolean[] busy = new boolean[mojas.length];
+        Arrays.fill(busy, true);
         while (true) {
-            for (final Moja<?> moja : mojas) {
-                moja.copy(this).execute();
+            int runs = 0;
+            for (int idx = 0; idx < mojas.length; ++idx) {
+                if (busy[idx]) {
+                    mojas[idx].copy(this).execute();
+                    ++runs;
+                }
             }
-            final String after = this.status();
+            final List<Tojo> rows = this.rows();
+            final String after = AssembleMojo.status(rows);
+            busy = AssembleMojo.busy(rows, seen);
             ++cycle;
             Logger.info(
-                this, "Assemble cycle #%d (%s -> %s)",
-                cycle, before, after
+                this, "Assemble cycle #%d ran %d mojo(s) (%s -> %s)",
+                cycle, runs, before, after
             );
-            if (after.equals(before)) {
+            final boolean done = after.equals(before)
+                || !AssembleMojo.any(busy);
+            before = after;
+            if (done) {
                 break;
             }
-            before = after;
         }
         Logger.info(
             this, "%d assemble cycle(s) produced some new object(s): %s",
@@ -197,11 +240,20 @@ public final class AssembleMojo extends SafeMojo {
         );
     }
 
+    /**
+     * All tojos in my scope, in one read of the catalog.
+     * @return The tojos
+     */
+    private List<Tojo> rows() {
+        return this.scopedTojos().select(tojo -> true);
+    }
+
     /**
      * Status of tojos.
+     * @param rows All tojos
      * @return Status in text
      */
-    private String status() {
+    private static String status(final Collection<Tojo> rows) {
         final String[] attrs = {
             AssembleMojo.ATTR_EO,
             AssembleMojo.ATTR_XMIR,
@@ -214,11 +266,99 @@ public final class AssembleMojo extends SafeMojo {
                 String.format(
                     "%s:%d",
                     attr,
-                    this.scopedTojos().select(tojo -> tojo.exists(attr)).size()
+                    AssembleMojo.count(rows, tojo -> tojo.exists(attr))
                 )
             );
         }
         return String.join("/", parts);
     }
 
+    /**
+     * Which mojos may have something to do in the next cycle.
+     *
+     * A mojo is busy if there are tojos waiting for it, which it hasn't
+     * seen yet, or if a mojo before it is busy and may give it some.
+     * Tojos that a mojo has seen and left as they are (for example,
+     * objects with zero versions that can't be resolved) don't make it
+     * busy again. The order is the same as in {@link #exec()}.
+     *
+     * @param rows All tojos
+     * @param seen Tojos seen by each mojo so far (will be updated)
+     * @return Flags, one per mojo
+     */
+    private static boolean[] busy(final Collection<Tojo> rows,
+        final Map<String, Set<String>> seen) {
+        final boolean parse = AssembleMojo.fresh(
+            rows, seen.computeIfAbsent("parse", key -> new HashSet<>(0)),
+            tojo -> tojo.exists(AssembleMojo.ATTR_EO)
+                && !tojo.exists(AssembleMojo.ATTR_XMIR)
+        );
+        final boolean optimize = AssembleMojo.fresh(
+            rows, seen.computeIfAbsent("optimize", key -> new HashSet<>(0)),
+            tojo -> tojo.exists(AssembleMojo.ATTR_XMIR)
+                && !tojo.exists(AssembleMojo.ATTR_XMIR2)
+        ) || parse;
+        final boolean discover = AssembleMojo.fresh(
+            rows, seen.computeIfAbsent("discover", key -> new HashSet<>(0)),
+            tojo -> tojo.exists(AssembleMojo.ATTR_XMIR2)
+                && !tojo.exists(AssembleMojo.ATTR_DISCOVERED)
+        ) || optimize;
+        final boolean pull = AssembleMojo.fresh(
+            rows, seen.computeIfAbsent("pull", key -> new HashSet<>(0)),
+            tojo -> !tojo.exists(AssembleMojo.ATTR_EO)
+                && !tojo.exists(AssembleMojo.ATTR_XMIR)
+        ) || discover;
+        final boolean resolve = AssembleMojo.fresh(
+            rows, seen.computeIfAbsent("resolve", key -> new HashSet<>(0)),
+            tojo -> tojo.exists(AssembleMojo.ATTR_XMIR)
+                && tojo.exists(AssembleMojo.ATTR_VERSION)
+                && !tojo.exists(AssembleMojo.ATTR_JAR)
+        ) || parse;
+        return new boolean[] {
+            parse, optimize, discover, pull, resolve, resolve, resolve,
+        };
+    }
+
+    /**
+     * Are there any tojos waiting, which were not seen before?
+     * @param rows All tojos
+     * @param seen IDs of tojos seen before (will be updated)
+     * @param waiting The filter of waiting tojos
+     * @return TRUE if there are new ones
+     */
+    private static boolean fresh(final Collection<Tojo> rows,
+        final Set<String> seen, final Predicate<Tojo> waiting) {
+        boolean fresh = false;
+        for (final Tojo tojo : rows) {
+            if (waiting.test(tojo) && seen.add(tojo.get("id"))) {
+                fresh = true;
+            }
+        }
+        return fresh;
+    }
+
+    /**
+     * Count tojos.
+     * @param rows All tojos
+     * @param filter The filter
+     * @return How many of them match
+     */
+    private static long count(final Collection<Tojo> rows,
+        final Predicate<Tojo> filter) {
+        return rows.stream().filter(filter).count();
+    }
+
+    /**
+     * Is any of them true?
+     * @param flags The flags
+     * @return TRUE if at least one is set
+     */
+    private static boolean any(final boolean... flags) {
+        boolean any = false;
+        for (final boolean flag : flags) {
+            any |= flag;
+        }
+        return any;
+    }
+
 }
@@ -0,0 +1,362 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2021 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.maven;
+
+import com.yegor256.tojos.Csv;
+import com.yegor256.tojos.Json;
+import com.yegor256.tojos.Mono;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tojos in a compact binary file.
+ *
+ * <p>The file starts with a header and then goes a log of records of
+ * two types: a string, which gets the next number in the string table,
+ * and a row, which refers to its ID, keys and values by their numbers
+ * in the table. Repeated values, like paths, versions and scopes, are
+ * stored only once. A later row with the same ID replaces the earlier
+ * one. When rows are written, only the strings and the rows that are
+ * new or changed since the last read are appended to the end of the file.
+ * When the log gets too long, or a row disappears, the file is compacted:
+ * written from scratch into a temporary file, which then atomically
+ * replaces the original one.</p>
+ *
+ * <p>If the file is in CSV or JSON format, it is read as such and then
+ * converted to binary on the first write.</p>
+ *
+ * @since 0.22
+ */
+final class Bin implements Mono {
+
+    /**
+     * The header of the file.
+     */
+    private static final byte[] MAGIC = "EOTOJOS1".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * Record with a string.
+     */
+    private static final byte STRING = 'S';
+
+    /**
+     * Record with a row.
+     */
+    private static final byte ROW = 'R';
+
+    /**
+     * The file.
+     */
+    private final Path file;
+
+    /**
+     * Rows, as they are in the file now, by IDs.
+     */
+    private final Map<String, Map<String, String>> rows;
+
+    /**
+     * Strings in the table of the file, with their numbers.
+     */
+    private final Map<String, Integer> strings;
+
+    /**
+     * How many rows are in the log of the file, including replaced ones.
+     */
+    private int records;
+
+    /**
+     * Is the file read?
+     */
+    private boolean loaded;
+
+    /**
+     * Must the file be written from scratch on the next write?
+     */
+    private boolean compact;
+
+    /**
+     * Ctor.
+     * @param path The file
+     */
+    Bin(final Path path) {
+        this.file = path;
+        this.rows = new LinkedHashMap<>(0);
+        this.strings = new HashMap<>(0);
+    }
+
+    @Override
+    public synchronized Collection<Map<String, String>> read() {
+        this.rows.clear();
+        this.strings.clear();
+        this.records = 0;
+        this.compact = false;
+        try {
+            if (Files.exists(this.file)) {
+                final byte[] bytes = Files.readAllBytes(this.file);
+                if (Bin.binary(bytes)) {
+                    this.parse(bytes);
+                } else {
+                    this.migrate(bytes);
+                }
+            } else {
+                this.compact = true;
+            }
+        } catch (final IOException ex) {
+            throw new IllegalStateException(
+                String.format("Failed to read %s", this.file),
+                ex
+            );
+        }
+        this.loaded = true;
+        final Collection<Map<String, String>> all = new ArrayList<>(this.rows.size());
+        for (final Map<String, String> row : this.rows.values()) {
+            all.add(new HashMap<>(row));
+        }
+        return all;
+    }
+
+    @Override
+    public synchronized void write(final Collection<Map<String, String>> all) {
+        if (!this.loaded) {
+            this.read();
+        }
+        final Map<String, Map<String, String>> fresh = new LinkedHashMap<>(all.size());
+        for (final Map<String, String> row : all) {
+            fresh.put(row.get("id"), new HashMap<>(row));
+        }
+        try {
+            if (this.compact
+                || !fresh.keySet().containsAll(this.rows.keySet())
+                || this.records > fresh.size() * 2 + 64) {
+                this.rewrite(fresh);
+            } else {
+                this.append(fresh);
+            }
+        } catch (final IOException ex) {
+            throw new IllegalStateException(
+                String.format("Failed to write %s", this.file),
+                ex
+            );
+        }
+    }
+
+    /**
+     * Append new and changed rows to the end of the file.
+     * @param fresh All rows
+     * @throws IOException If fails
+     */
+    private void append(final Map<String, Map<String, String>> fresh)
+        throws IOException {
+        final List<Map<String, String>> changed = new ArrayList<>(0);
+        for (final Map.Entry<String, Map<String, String>> ent : fresh.entrySet()) {
+            if (!ent.getValue().equals(this.rows.get(ent.getKey()))) {
+                changed.add(ent.getValue());
+            }
+        }
+        if (!changed.isEmpty()) {
+            try (DataOutputStream out = Bin.data(
+                Files.newOutputStream(this.file, StandardOpenOption.APPEND)
+            )) {
+                for (final Map<String, String> row : changed) {
+                    this.print(out, row);
+                }
+            }
+        }
+    }
+
+    /**
+     * Write the file from scratch.
+     * @param fresh All rows
+     * @throws IOException If fails
+     */
+    private void rewrite(final Map<String, Map<String, String>> fresh)
+        throws IOException {
+        this.rows.clear();
+        this.strings.clear();
+        this.records = 0;
+        final Path dir = this.file.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        final Path temp = Files.createTempFile(
+            dir, this.file.getFileName().toString(), ".tmp"
+        );
+        try {
+            try (DataOutputStream out = Bin.data(Files.newOutputStream(temp))) {
+                out.write(Bin.MAGIC);
+                for (final Map<String, String> row : fresh.values()) {
+                    this.print(out, row);
+                }
+            }
+            Files.move(
+                temp, this.file,
+                StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE
+            );
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        this.compact = false;
+    }
+
+    /**
+     * Print one row, together with the strings it needs, which are not
+     * yet in the table.
+     * @param out Where to print
+     * @param row The row
+     * @throws IOException If fails
+     */
+    private void print(final DataOutputStream out, final Map<String, String> row)
+        throws IOException {
+        final String name = row.get("id");
+        final int[] refs = new int[row.size() * 2 + 1];
+        refs[0] = this.string(out, name);
+        int pos = 1;
+        for (final Map.Entry<String, String> ent : row.entrySet()) {
+            refs[pos] = this.string(out, ent.getKey());
+            refs[pos + 1] = this.string(out, ent.getValue());
+            pos += 2;
+        }
+        out.writeByte(Bin.ROW);
+        out.writeInt(refs[0]);
+        out.writeInt(row.size());
+        for (int idx = 1; idx < refs.length; ++idx) {
+            out.writeInt(refs[idx]);
+        }
+        this.rows.put(name, new HashMap<>(row));
+        ++this.records;
+    }
+
+    /**
+     * Find the string in the table or print it and add to the table.
+     * @param out Where to print
+     * @param text The string
+     * @return Its number in the table
+     * @throws IOException If fails
+     */
+    private int string(final DataOutputStream out, final String text)
+        throws IOException {
+        Integer num = this.strings.get(text);
+        if (num == null) {
+            num = this.strings.size();
+            out.writeByte(Bin.STRING);
+            out.writeUTF(text);
+            this.strings.put(text, num);
+        }
+        return num;
+    }
+
+    /**
+     * Parse binary content of the file.
+     * @param bytes The content
+     * @throws IOException If fails
+     */
+    private void parse(final byte[] bytes) throws IOException {
+        final List<String> table = new ArrayList<>(0);
+        try (DataInputStream in = new DataInputStream(
+            new ByteArrayInputStream(bytes, Bin.MAGIC.length, bytes.length)
+        )) {
+            while (in.available() > 0) {
+                final byte type = in.readByte();
+                if (type == Bin.STRING) {
+                    final String text = in.readUTF();
+                    this.strings.put(text, table.size());
+                    table.add(text);
+                } else if (type == Bin.ROW) {
+                    final String name = table.get(in.readInt());
+                    final int size = in.readInt();
+                    final Map<String, String> row = new HashMap<>(size);
+                    for (int idx = 0; idx < size; ++idx) {
+                        row.put(table.get(in.readInt()), table.get(in.readInt()));
+                    }
+                    this.rows.put(name, row);
+                    ++this.records;
+                } else {
+                    throw new IllegalStateException(
+                        String.format(
+                            "Unknown record type 0x%02x in %s", type, this.file
+                        )
+                    );
+                }
+            }
+        } catch (final EOFException ex) {
+            this.compact = true;
+        }
+    }
+
+    /**
+     * Read CSV or JSON content of the file, to be converted on next write.
+     * @param bytes The content
+     */
+    private void migrate(final byte[] bytes) {
+        final String text = new String(bytes, StandardCharsets.UTF_8).trim();
+        final Mono mono;
+        if (text.startsWith("[")) {
+            mono = new Json(this.file);
+        } else {
+            mono = new Csv(this.file);
+        }
+        for (final Map<String, String> row : mono.read()) {
+            this.rows.put(row.get("id"), row);
+        }
+        this.compact = true;
+    }
+
+    /**
+     * Is it binary content?
+     * @param bytes The content
+     * @return TRUE if it starts with the header
+     */
+    private static boolean binary(final byte[] bytes) {
+        return bytes.length >= Bin.MAGIC.length
+            && Arrays.equals(
+                Arrays.copyOf(bytes, Bin.MAGIC.length), Bin.MAGIC
+            );
+    }
+
+    /**
+     * Make buffered data stream.
+     * @param stream The stream
+     * @return Data stream
+     */
+    private static DataOutputStream data(final OutputStream stream) {
+        return new DataOutputStream(new BufferedOutputStream(stream));
+    }
+
+}
@@ -0,0 +1,208 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2021 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.maven;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * A snapshot of objectionary in one file.
+ *
+ * <p>The file starts with a header and the number of objects, which
+ * is followed by the index: the name of each object, in UTF-8, the offset
+ * of its sources from the end of the index, and their length. Then
+ * go the sources of all objects, one after another. The file is
+ * mapped into memory and the index is read only once, after which
+ * the sources of any object are found without searching.</p>
+ *
+ * @since 0.22
+ */
+final class Bundle {
+
+    /**
+     * The header of the file.
+     */
+    private static final byte[] MAGIC = "EOBUNDL1".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * The file.
+     */
+    private final Path file;
+
+    /**
+     * Positions and lengths of objects in the file, by names,
+     * or NULL if the file is not yet read.
+     */
+    private Map<String, long[]> index;
+
+    /**
+     * The content of the file.
+     */
+    private ByteBuffer buffer;
+
+    /**
+     * Ctor.
+     * @param path The file
+     */
+    Bundle(final Path path) {
+        this.file = path;
+    }
+
+    /**
+     * Find the sources of the object.
+     * @param name The name of the object, e.g. "org.eolang.io.stdout"
+     * @return The sources or empty if the object is not in the bundle
+     * @throws IOException If fails
+     */
+    public Optional<byte[]> load(final String name) throws IOException {
+        final long[] pos = this.entries().get(name);
+        final Optional<byte[]> found;
+        if (pos == null) {
+            found = Optional.empty();
+        } else {
+            final byte[] bytes = new byte[(int) pos[1]];
+            final ByteBuffer dup = this.buffer.duplicate();
+            dup.position((int) pos[0]);
+            dup.get(bytes);
+            found = Optional.of(bytes);
+        }
+        return found;
+    }
+
+    /**
+     * Pack all .eo files from the directory into the bundle.
+     * @param dir The directory, where "org/eolang/io/stdout.eo" is the
+     *  sources of "org.eolang.io.stdout"
+     * @return How many objects were packed
+     * @throws IOException If fails
+     */
+    public int pack(final Path dir) throws IOException {
+        final Map<String, Path> sources = new TreeMap<>();
+        for (final Path src : new Walk(dir).includes(Collections.singleton("**.eo"))) {
+            final String rel = dir.relativize(src).toString().replace('\\', '/');
+            sources.put(rel.substring(0, rel.length() - 3).replace('/', '.'), src);
+        }
+        final ByteArrayOutputStream data = new ByteArrayOutputStream();
+        final ByteArrayOutputStream head = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(head)) {
+            out.write(Bundle.MAGIC);
+            out.writeInt(sources.size());
+            for (final Map.Entry<String, Path> ent : sources.entrySet()) {
+                final byte[] bytes = Files.readAllBytes(ent.getValue());
+                final byte[] name = ent.getKey().getBytes(StandardCharsets.UTF_8);
+                out.writeInt(name.length);
+                out.write(name);
+                out.writeLong(data.size());
+                out.writeInt(bytes.length);
+                data.write(bytes);
+            }
+        }
+        final Path parent = this.file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        final Path temp = Files.createTempFile(
+            parent, this.file.getFileName().toString(), ".tmp"
+        );
+        try {
+            try (BufferedOutputStream out = new BufferedOutputStream(
+                Files.newOutputStream(temp)
+            )) {
+                head.writeTo(out);
+                data.writeTo(out);
+            }
+            Files.move(
+                temp, this.file,
+                StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE
+            );
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        synchronized (this) {
+            this.index = null;
+        }
+        return sources.size();
+    }
+
+    /**
+     * Map the file and read its index, if not yet.
+     * @return The index
+     * @throws IOException If fails
+     */
+    private synchronized Map<String, long[]> entries() throws IOException {
+        if (this.index == null) {
+            final MappedByteBuffer map;
+            try (FileChannel channel = FileChannel.open(
+                this.file, StandardOpenOption.READ
+            )) {
+                map = channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size());
+            }
+            final byte[] magic = new byte[Bundle.MAGIC.length];
+            if (map.remaining() < magic.length + 4) {
+                throw new IOException(
+                    String.format("The file %s is not a bundle", this.file)
+                );
+            }
+            map.get(magic);
+            if (!Arrays.equals(magic, Bundle.MAGIC)) {
+                throw new IOException(
+                    String.format("The file %s is not a bundle", this.file)
+                );
+            }
+            final int total = map.getInt();
+            final Map<String, long[]> entries = new HashMap<>(total * 2);
+            for (int idx = 0; idx < total; ++idx) {
+                final byte[] name = new byte[map.getInt()];
+                map.get(name);
+                entries.put(
+                    new String(name, StandardCharsets.UTF_8),
+                    new long[] {map.getLong(), map.getInt()}
+                );
+            }
+            final int start = map.position();
+            for (final long[] pos : entries.values()) {
+                pos[0] += start;
+            }
+            this.buffer = map;
+            this.index = entries;
+        }
+        return this.index;
+    }
+
+}
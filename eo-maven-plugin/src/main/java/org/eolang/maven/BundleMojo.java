@@ -0,0 +1,75 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2021 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.maven;
+
+import com.jcabi.log.Logger;
+import java.io.File;
+import java.io.IOException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+/**
+ * Pack a directory of objects, like "objects/" of objectionary,
+ * into one {@link Bundle}, to be used by {@link PullMojo} offline.
+ *
+ * @since 0.22
+ */
+@Mojo(
+    name = "bundle",
+    defaultPhase = LifecyclePhase.PACKAGE,
+    threadSafe = true
+)
+public final class BundleMojo extends SafeMojo {
+
+    /**
+     * Directory with .eo files of objects.
+     * @checkstyle MemberNameCheck (7 lines)
+     */
+    @Parameter(required = true)
+    private File objectsDir;
+
+    /**
+     * The bundle to make.
+     */
+    @Parameter(
+        property = "eo.bundle",
+        required = true,
+        defaultValue = "${project.build.directory}/objectionary.eob"
+    )
+    private File bundle;
+
+    @Override
+    public void exec() throws IOException {
+        final int total = new Bundle(this.bundle.toPath()).pack(
+            this.objectsDir.toPath()
+        );
+        Logger.info(
+            this, "%d object(s) from %s packed into %s",
+            total, Save.rel(this.objectsDir.toPath()),
+            Save.rel(this.bundle.toPath())
+        );
+    }
+
+}
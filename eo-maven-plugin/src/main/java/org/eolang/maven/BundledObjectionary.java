@@ -0,0 +1,73 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2021 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.maven;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.util.Optional;
+import org.cactoos.Input;
+import org.cactoos.io.InputOf;
+
+/**
+ * Objectionary, which takes objects from a {@link Bundle} and goes
+ * to the original objectionary only for those missing in it.
+ *
+ * @since 0.22
+ */
+final class BundledObjectionary implements Objectionary {
+
+    /**
+     * The bundle.
+     */
+    private final Bundle bundle;
+
+    /**
+     * The original objectionary.
+     */
+    private final Objectionary origin;
+
+    /**
+     * Ctor.
+     * @param bnd The bundle
+     * @param objs The original objectionary
+     */
+    BundledObjectionary(final Bundle bnd, final Objectionary objs) {
+        this.bundle = bnd;
+        this.origin = objs;
+    }
+
+    @Override
+    public Input get(final String name) throws IOException {
+        final Optional<byte[]> found = this.bundle.load(name);
+        final Input input;
+        if (found.isPresent()) {
+            Logger.debug(this, "The object '%s' found in the bundle", name);
+            input = new InputOf(found.get());
+        } else {
+            input = this.origin.get(name);
+        }
+        return input;
+    }
+
+}
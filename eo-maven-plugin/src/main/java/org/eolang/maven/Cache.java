@@ -0,0 +1,167 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2021 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.maven;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Optional;
+
+/**
+ * Content-addressed cache of files, shared among modules and builds.
+ *
+ * Every entry is a file, named by the key, which is usually a hash
+ * of everything the content depends on (see {@link Cache#key(byte[][])}).
+ * Entries are written to a temporary file first and then moved into place,
+ * so that many builds may use the same cache at the same time.
+ *
+ * @since 0.22
+ */
+final class Cache {
+
+    /**
+     * The directory.
+     */
+    private final Path dir;
+
+    /**
+     * Ctor.
+     * @param home The directory
+     */
+    Cache(final Path home) {
+        this.dir = home;
+    }
+
+    /**
+     * Make a key out of binary parts.
+     * @param parts The parts of it
+     * @return The key, which is a hex SHA-256 of them all
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static String key(final byte[]... parts) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+        for (final byte[] part : parts) {
+            digest.update(
+                Integer.toString(part.length).getBytes(StandardCharsets.UTF_8)
+            );
+            digest.update((byte) ':');
+            digest.update(part);
+        }
+        return String.format("%064x", new BigInteger(1, digest.digest()));
+    }
+
+    /**
+     * Load the content, if it is in the cache.
+     * @param key The key
+     * @return The content or empty
+     * @throws IOException If fails
+     */
+    public Optional<byte[]> load(final String key) throws IOException {
+        return this.load(key, Long.MAX_VALUE);
+    }
+
+    /**
+     * Load the content, if it is in the cache and is not older than
+     * the given age.
+     * @param key The key
+     * @param age Maximum age of the entry, in milliseconds
+     * @return The content or empty
+     * @throws IOException If fails
+     */
+    public Optional<byte[]> load(final String key, final long age)
+        throws IOException {
+        final Path file = this.file(key);
+        final Optional<byte[]> content;
+        if (Files.exists(file)
+            && System.currentTimeMillis()
+            - Files.getLastModifiedTime(file).toMillis() <= age) {
+            content = Optional.of(Files.readAllBytes(file));
+        } else {
+            content = Optional.empty();
+        }
+        return content;
+    }
+
+    /**
+     * When the entry was saved.
+     * @param key The key
+     * @return Time in milliseconds, or zero if there is no such entry
+     * @throws IOException If fails
+     */
+    public long time(final String key) throws IOException {
+        final Path file = this.file(key);
+        long time = 0L;
+        if (Files.exists(file)) {
+            time = Files.getLastModifiedTime(file).toMillis();
+        }
+        return time;
+    }
+
+    /**
+     * Save the content.
+     * @param key The key
+     * @param content The content
+     * @throws IOException If fails
+     */
+    public void save(final String key, final byte[] content) throws IOException {
+        final Path file = this.file(key);
+        Files.createDirectories(file.getParent());
+        final Path temp = Files.createTempFile(file.getParent(), "tmp", ".part");
+        try {
+            Files.write(temp, content);
+            Files.move(
+                temp, file,
+                StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE
+            );
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return Save.rel(this.dir);
+    }
+
+    /**
+     * The file for the key.
+     * @param key The key
+     * @return Path of the file
+     */
+    private Path file(final String key) {
+        return this.dir.resolve(key.substring(0, 2)).resolve(key.substring(2));
+    }
+
+}
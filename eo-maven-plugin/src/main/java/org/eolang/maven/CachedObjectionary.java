@@ -0,0 +1,174 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2021 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.maven;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.cactoos.Input;
+import org.cactoos.io.BytesOf;
+import org.cactoos.io.InputOf;
+import org.cactoos.scalar.IoChecked;
+
+/**
+ * Objectionary, which keeps pulled objects in the {@link Cache} on disk,
+ * shared among builds, and in memory, shared among modules of one build.
+ *
+ * <p>Entries are keyed by the hash of objectionary and the name of the
+ * object. An entry older than the given age, on disk or in memory,
+ * is ignored and the object is pulled again: this is what a moving branch, like "master",
+ * needs. Objects of a fixed commit may be kept forever.</p>
+ *
+ * @since 0.22
+ */
+final class CachedObjectionary implements Objectionary {
+
+    /**
+     * How many objects to keep in memory.
+     */
+    private static final int MAX = 1024;
+
+    /**
+     * Objects in memory, least recently used go away first.
+     */
+    private static final Map<String, CachedObjectionary.Entry> MEMORY =
+        Collections.synchronizedMap(
+            new LinkedHashMap<String, CachedObjectionary.Entry>(16, 0.75f, true) {
+                private static final long serialVersionUID = 0x7ac4a1e29d3b5f07L;
+
+                @Override
+                protected boolean removeEldestEntry(
+                    final Map.Entry<String, CachedObjectionary.Entry> eldest) {
+                    return this.size() > CachedObjectionary.MAX;
+                }
+            }
+        );
+
+    /**
+     * The original objectionary.
+     */
+    private final Objectionary origin;
+
+    /**
+     * The cache on disk.
+     */
+    private final Cache cache;
+
+    /**
+     * The hash of objectionary.
+     */
+    private final String hash;
+
+    /**
+     * Maximum age of an entry, in milliseconds.
+     */
+    private final long age;
+
+    /**
+     * Ctor.
+     * @param objs The original objectionary
+     * @param cch The cache on disk
+     * @param hsh The hash of objectionary
+     * @param max Maximum age of an entry, in milliseconds
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    CachedObjectionary(final Objectionary objs, final Cache cch,
+        final String hsh, final long max) {
+        this.origin = objs;
+        this.cache = cch;
+        this.hash = hsh;
+        this.age = max;
+    }
+
+    @Override
+    public Input get(final String name) throws IOException {
+        final String key = Cache.key(
+            this.hash.getBytes(StandardCharsets.UTF_8),
+            name.getBytes(StandardCharsets.UTF_8)
+        );
+        final String mem = String.format("%s/%s", this.cache, key);
+        CachedObjectionary.Entry entry = CachedObjectionary.MEMORY.get(mem);
+        if (entry == null || !entry.fresh(this.age)) {
+            final Optional<byte[]> saved = this.cache.load(key, this.age);
+            if (saved.isPresent()) {
+                entry = new CachedObjectionary.Entry(saved.get(), this.cache.time(key));
+                Logger.debug(
+                    this, "The object '%s' found in cache at %s",
+                    name, this.cache
+                );
+            } else {
+                final Input input = this.origin.get(name);
+                entry = new CachedObjectionary.Entry(
+                    new IoChecked<>(() -> new BytesOf(input).asBytes()).value(),
+                    System.currentTimeMillis()
+                );
+                this.cache.save(key, entry.bytes);
+            }
+            CachedObjectionary.MEMORY.put(mem, entry);
+        }
+        return new InputOf(entry.bytes);
+    }
+
+    /**
+     * Object in memory, with the time it was pulled.
+     *
+     * @since 0.22
+     */
+    private static final class Entry {
+
+        /**
+         * The content of the object.
+         */
+        private final byte[] bytes;
+
+        /**
+         * When it was pulled, in milliseconds.
+         */
+        private final long time;
+
+        /**
+         * Ctor.
+         * @param content The content
+         * @param when When it was pulled
+         */
+        Entry(final byte[] content, final long when) {
+            this.bytes = content;
+            this.time = when;
+        }
+
+        /**
+         * Is it not older than the given age?
+         * @param age Maximum age, in milliseconds
+         * @return TRUE if it's fresh
+         */
+        boolean fresh(final long age) {
+            return System.currentTimeMillis() - this.time <= age;
+        }
+    }
+
+}
@@ -26,10 +26,13 @@ package org.eolang.maven;
 import com.yegor256.tojos.Csv;
 import com.yegor256.tojos.Json;
 import com.yegor256.tojos.Mono;
-import com.yegor256.tojos.MonoTojos;
-import com.yegor256.tojos.Tojos;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
 import java.util.Locale;
+import java.util.Map;
 
 /**
  * Catalog with tojos, in some format.
@@ -38,6 +41,11 @@ import java.util.Locale;
  */
 final class Catalog {
 
+    /**
+     * Binary format.
+     */
+    private static final String BIN = "bin";
+
     /**
      * Path.
      */
@@ -60,15 +68,76 @@ final class Catalog {
 
     /**
      * Make it.
+     *
+     * The tojos are read only once and are kept in memory. They are
+     * written back to the file only when {@link IndexedTojos#flush()} is
+     * called: into a temporary file first, which then atomically replaces
+     * the original one. In "bin" format only the rows that were changed
+     * are appended to the end of the file, see {@link Bin}.
+     *
      * @return The tojos
      */
-    public Tojos make() {
-        final String fmt = this.format.trim().toLowerCase(Locale.ENGLISH);
+    public IndexedTojos make() {
+        final Mono mono;
+        if (Catalog.BIN.equals(this.fmt())) {
+            mono = new Bin(this.path);
+        } else {
+            mono = new Mono() {
+                @Override
+                public Collection<Map<String, String>> read() {
+                    return Catalog.this.mono(Catalog.this.path).read();
+                }
+
+                @Override
+                public void write(final Collection<Map<String, String>> rows) {
+                    Catalog.this.write(rows);
+                }
+            };
+        }
+        return new IndexedTojos(mono);
+    }
+
+    /**
+     * Write all rows to the file, atomically.
+     * @param rows The rows
+     */
+    private void write(final Collection<Map<String, String>> rows) {
+        try {
+            final Path dir = this.path.toAbsolutePath().getParent();
+            Files.createDirectories(dir);
+            final Path temp = Files.createTempFile(
+                dir, this.path.getFileName().toString(), ".tmp"
+            );
+            try {
+                this.mono(temp).write(rows);
+                Files.move(
+                    temp, this.path,
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE
+                );
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (final IOException ex) {
+            throw new IllegalStateException(
+                String.format("Failed to save %s", this.path),
+                ex
+            );
+        }
+    }
+
+    /**
+     * Make mono for the file.
+     * @param file The file
+     * @return The mono
+     */
+    private Mono mono(final Path file) {
+        final String fmt = this.fmt();
         final Mono mono;
         if ("json".equals(fmt)) {
-            mono = new Json(this.path);
+            mono = new Json(file);
         } else if ("csv".equals(fmt)) {
-            mono = new Csv(this.path);
+            mono = new Csv(file);
         } else {
             throw new IllegalArgumentException(
                 String.format(
@@ -77,6 +146,14 @@ final class Catalog {
                 )
             );
         }
-        return new MonoTojos(mono);
+        return mono;
+    }
+
+    /**
+     * The format, in lower case.
+     * @return The format
+     */
+    private String fmt() {
+        return this.format.trim().toLowerCase(Locale.ENGLISH);
     }
 }
@@ -24,18 +24,26 @@
 package org.eolang.maven;
 
 import com.jcabi.log.Logger;
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.function.BiConsumer;
 import org.apache.maven.execution.MavenSession;
 import org.apache.maven.model.Dependency;
-import org.apache.maven.plugin.BuildPluginManager;
-import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.project.MavenProject;
-import org.twdata.maven.mojoexecutor.MojoExecutor;
+import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.resolution.ArtifactRequest;
+import org.eclipse.aether.resolution.ArtifactResolutionException;
+import org.eclipse.aether.resolution.ArtifactResult;
 
 /**
  * The abstraction of Maven Central.
  *
+ * <p>The JAR of the dependency is resolved through the repository
+ * system of Maven, from the remote repositories of the project, and is
+ * then unpacked by {@link Unzip}. It is safe to resolve many dependencies
+ * at the same time.</p>
+ *
  * @since 0.1
  */
 public final class Central implements BiConsumer<Dependency, Path> {
@@ -67,57 +75,57 @@ public final class Central implements BiConsumer<Dependency, Path> {
     private final MavenSession session;
 
     /**
-     * Maven plugin manager.
+     * Maven repository system.
      */
-    private final BuildPluginManager manager;
+    private final RepositorySystem system;
 
     /**
      * Ctor.
      * @param prj Project
      * @param sess Session
-     * @param mgr Manager
+     * @param sys Repository system
      */
     public Central(final MavenProject prj, final MavenSession sess,
-        final BuildPluginManager mgr) {
+        final RepositorySystem sys) {
         this.project = prj;
         this.session = sess;
-        this.manager = mgr;
+        this.system = sys;
     }
 
     @Override
     public void accept(final Dependency dep, final Path path) {
+        final ArtifactResult result;
         try {
-            MojoExecutor.executeMojo(
-                MojoExecutor.plugin(
-                    MojoExecutor.groupId("org.apache.maven.plugins"),
-                    MojoExecutor.artifactId("maven-dependency-plugin")
-                ),
-                MojoExecutor.goal("unpack"),
-                MojoExecutor.configuration(
-                    MojoExecutor.element(
-                        "artifactItems",
-                        MojoExecutor.element(
-                            "artifactItem",
-                            MojoExecutor.element("groupId", dep.getGroupId()),
-                            MojoExecutor.element("artifactId", dep.getArtifactId()),
-                            MojoExecutor.element("version", dep.getVersion()),
-                            MojoExecutor.element("outputDirectory", path.toString())
-                        )
-                    )
-                ),
-                MojoExecutor.executionEnvironment(
-                    this.project,
-                    this.session,
-                    this.manager
+            result = this.system.resolveArtifact(
+                this.session.getRepositorySession(),
+                new ArtifactRequest(
+                    new DefaultArtifact(
+                        dep.getGroupId(), dep.getArtifactId(),
+                        dep.getClassifier(), "jar", dep.getVersion()
+                    ),
+                    this.project.getRemoteProjectRepositories(),
+                    null
                 )
             );
-        } catch (final MojoExecutionException ex) {
+        } catch (final ArtifactResolutionException ex) {
             throw new IllegalStateException(ex);
         }
+        final int files;
+        try {
+            files = new Unzip(result.getArtifact().getFile().toPath()).into(path);
+        } catch (final IOException ex) {
+            throw new IllegalStateException(
+                String.format(
+                    "Failed to unpack %s to %s",
+                    result.getArtifact(), Save.rel(path)
+                ),
+                ex
+            );
+        }
         Logger.info(
-            this, "%s unpacked to %s:%s:%s",
+            this, "%s:%s:%s unpacked to %s (%d files)",
             dep.getGroupId(), dep.getArtifactId(), dep.getVersion(),
-            Save.rel(path)
+            Save.rel(path), files
         );
     }
 
@@ -24,21 +24,26 @@
 package org.eolang.maven;
 
 import com.jcabi.log.Logger;
+import com.yegor256.tojos.Tojo;
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.regex.Pattern;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
-import org.cactoos.io.InputOf;
-import org.cactoos.text.TextOf;
 
 /**
  * Copy all .eo files from src/main/eo to target/classes/EO-SOURCES
  * and replace 0.0.0 versions in them to the right numbers.
  *
+ * Sources, which are not modified since the last copy, are skipped.
+ *
  * @since 0.11
  * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
  */
@@ -59,10 +64,30 @@ public final class CopyMojo extends SafeMojo {
      * Replacer or version.
      */
     private static final Pattern REPLACE = Pattern.compile(
-        "^(\\+rt .+):0\\.0\\.0(.*)$",
-        Pattern.MULTILINE
+        "^(\\+rt .+):0\\.0\\.0(.*)$"
     );
 
+    /**
+     * The file in the target directory, which remembers the sources
+     * already copied, to skip them next time, if they are not changed.
+     */
+    private static final String MANIFEST = "eo-copied.csv";
+
+    /**
+     * Version, which 0.0.0 was replaced with.
+     */
+    private static final String ATTR_VERSION = "version";
+
+    /**
+     * Modification time and size of the source.
+     */
+    private static final String ATTR_STAMP = "stamp";
+
+    /**
+     * Hash of the content of the source.
+     */
+    private static final String ATTR_HASH = "hash";
+
     /**
      * Directory in which .eo files are located.
      * @checkstyle MemberNameCheck (7 lines)
@@ -92,21 +117,69 @@ public final class CopyMojo extends SafeMojo {
 
     @Override
     public void exec() throws IOException {
+        final Path home = this.sourcesDir.toPath();
         final Path target = this.outputDir.toPath().resolve(CopyMojo.DIR);
-        final Collection<Path> sources = new Walk(this.sourcesDir.toPath());
-        for (final Path src : sources) {
-            new Save(
-                CopyMojo.REPLACE
-                    .matcher(new TextOf(new InputOf(src)).asString())
-                    .replaceAll(String.format("$1:%s$2", this.version)),
-                target.resolve(
-                    src.toAbsolutePath().toString().substring(
-                        this.sourcesDir.toPath().toAbsolutePath().toString().length() + 1
-                    )
-                )
-            ).save();
+        final Collection<Path> sources = new Walk(home);
+        final IndexedTojos manifest = new Catalog(
+            this.targetDir.toPath().resolve(CopyMojo.MANIFEST), "csv"
+        ).make();
+        final Map<String, Tojo> copies = new HashMap<>(0);
+        for (final Tojo tojo : manifest.select(t -> true)) {
+            copies.put(tojo.get("id"), tojo);
+        }
+        int copied = 0;
+        try {
+            for (final Path src : sources) {
+                final String rel = home.relativize(src).toString();
+                final Path out = target.resolve(rel);
+                final String stamp = String.format(
+                    "%d/%d",
+                    Files.getLastModifiedTime(src).toMillis(), Files.size(src)
+                );
+                final Tojo copy = copies.get(rel);
+                final boolean fresh = copy != null && Files.exists(out)
+                    && this.version.equals(copy.get(CopyMojo.ATTR_VERSION));
+                if (fresh && stamp.equals(copy.get(CopyMojo.ATTR_STAMP))) {
+                    continue;
+                }
+                final byte[] bytes = Files.readAllBytes(src);
+                final String hash = Cache.key(bytes);
+                if (!fresh || !hash.equals(copy.get(CopyMojo.ATTR_HASH))) {
+                    new Save(
+                        this.versioned(new String(bytes, StandardCharsets.UTF_8)),
+                        out
+                    ).save();
+                    ++copied;
+                }
+                manifest.add(rel)
+                    .set(CopyMojo.ATTR_VERSION, this.version)
+                    .set(CopyMojo.ATTR_STAMP, stamp)
+                    .set(CopyMojo.ATTR_HASH, hash);
+            }
+        } finally {
+            manifest.flush();
+        }
+        Logger.info(
+            this, "%d sources copied, %d of them were not changed",
+            copied, sources.size() - copied
+        );
+    }
+
+    /**
+     * Replace 0.0.0 versions in "+rt" metas with the version.
+     * @param text The source
+     * @return The source with versions
+     */
+    private String versioned(final String text) {
+        final String[] lines = text.split("\n", -1);
+        for (int idx = 0; idx < lines.length; ++idx) {
+            if (lines[idx].startsWith("+rt ")) {
+                lines[idx] = CopyMojo.REPLACE.matcher(lines[idx]).replaceAll(
+                    String.format("$1:%s$2", this.version)
+                );
+            }
         }
-        Logger.info(this, "%d sources copied", sources.size());
+        return String.join("\n", lines);
     }
 
 }
@@ -24,10 +24,7 @@
 package org.eolang.maven;
 
 import com.jcabi.log.Logger;
-import com.jcabi.xml.XML;
-import com.jcabi.xml.XMLDocument;
 import com.yegor256.tojos.Tojo;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -35,8 +32,6 @@ import java.util.Collection;
 import java.util.HashSet;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
-import org.cactoos.iterable.Filtered;
-import org.cactoos.list.ListOf;
 
 /**
  * Read all XMIR files and find foreign objects in them, then
@@ -89,31 +84,12 @@ public final class DiscoverMojo extends SafeMojo {
      *
      * @param file The .xmir file
      * @return List of foreign objects found
-     * @throws FileNotFoundException If not found
+     * @throws IOException If fails
      */
-    private Collection<String> discover(final Path file)
-        throws FileNotFoundException {
-        final XML xml = new XMLDocument(file);
-        final Collection<String> names = new HashSet<>(
-            new ListOf<>(
-                new Filtered<>(
-                    obj -> !obj.isEmpty(),
-                    xml.xpath(
-                        String.join(
-                            " ",
-                            "//o[",
-                            "not(starts-with(@base,'.'))",
-                            " and @base != '^'",
-                            " and @base != '$'",
-                            " and @base != '&'",
-                            " and not(@ref)",
-                            "]/@base"
-                        )
-                    )
-                )
-            )
-        );
-        if (!xml.nodes("//o[@vararg]").isEmpty()) {
+    private Collection<String> discover(final Path file) throws IOException {
+        final Summary summary = new Summary(file);
+        final Collection<String> names = new HashSet<>(summary.foreign());
+        if (summary.vararg()) {
             names.add("org.eolang.array");
         }
         if (names.isEmpty()) {
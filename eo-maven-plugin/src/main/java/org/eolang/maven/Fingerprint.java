@@ -0,0 +1,166 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2021 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.maven;
+
+import com.jcabi.manifests.Manifests;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fingerprints of the code that makes what is kept in caches.
+ *
+ * The version of EO is not enough, since it's the same in all
+ * SNAPSHOT builds, while the code may be different in each of them.
+ *
+ * @since 0.22
+ */
+final class Fingerprint {
+
+    /**
+     * Hashes already calculated, by the paths and stamps of their jars.
+     */
+    private static final Map<String, String> HASHES = new ConcurrentHashMap<>(0);
+
+    /**
+     * Ctor.
+     */
+    private Fingerprint() {
+        // utility class
+    }
+
+    /**
+     * Fingerprint of the code of this class: the version of EO
+     * together with the hash of the jar the class is loaded from,
+     * or, if it's loaded from a directory, the hash of names, sizes,
+     * and modification times of all files in it.
+     *
+     * If it's not known where the class is loaded from and the version is
+     * a SNAPSHOT, there is no way to tell whether the code is the same
+     * as it was in the previous build, and the fingerprint is empty:
+     * nothing must be taken from the cache.
+     *
+     * @param type The class
+     * @return The fingerprint or empty
+     * @throws IOException If fails
+     */
+    public static Optional<String> code(final Class<?> type) throws IOException {
+        final String version = Manifests.read("EO-Version");
+        final Optional<Path> home = Fingerprint.home(type);
+        final Optional<String> print;
+        if (home.isPresent() && Files.isDirectory(home.get())) {
+            print = Optional.of(
+                String.format("%s/%s", version, Fingerprint.stamps(home.get()))
+            );
+        } else if (home.isPresent()) {
+            print = Optional.of(
+                String.format("%s/%s", version, Fingerprint.hash(home.get()))
+            );
+        } else if (version.endsWith("-SNAPSHOT")) {
+            print = Optional.empty();
+        } else {
+            print = Optional.of(version);
+        }
+        return print;
+    }
+
+    /**
+     * The jar or the directory this class is loaded from.
+     * @param type The class
+     * @return The path, if it's known
+     */
+    private static Optional<Path> home(final Class<?> type) {
+        final CodeSource source = type.getProtectionDomain().getCodeSource();
+        Optional<Path> home = Optional.empty();
+        if (source != null && source.getLocation() != null) {
+            final URL url = source.getLocation();
+            try {
+                final Path path = Paths.get(url.toURI());
+                if (Files.exists(path)) {
+                    home = Optional.of(path);
+                }
+            } catch (final URISyntaxException | IllegalArgumentException
+                | FileSystemNotFoundException ex) {
+                home = Optional.empty();
+            }
+        }
+        return home;
+    }
+
+    /**
+     * The hash of names, sizes, and modification times of all files
+     * in the directory.
+     * @param dir The directory
+     * @return The hash
+     * @throws IOException If fails
+     */
+    private static String stamps(final Path dir) throws IOException {
+        final List<String> lines = new ArrayList<>(0);
+        for (final Path file : new Walk(dir)) {
+            lines.add(
+                String.format(
+                    "%s %d %d", dir.relativize(file),
+                    Files.getLastModifiedTime(file).toMillis(), Files.size(file)
+                )
+            );
+        }
+        Collections.sort(lines);
+        return Cache.key(
+            String.join("\n", lines).getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    /**
+     * The hash of the file, calculated only once for each of its
+     * versions.
+     * @param file The file
+     * @return The hash
+     * @throws IOException If fails
+     */
+    private static String hash(final Path file) throws IOException {
+        final String stamp = String.format(
+            "%s %d %d", file.toAbsolutePath(),
+            Files.getLastModifiedTime(file).toMillis(), Files.size(file)
+        );
+        String hash = Fingerprint.HASHES.get(stamp);
+        if (hash == null) {
+            hash = Cache.key(Files.readAllBytes(file));
+            Fingerprint.HASHES.put(stamp, hash);
+        }
+        return hash;
+    }
+
+}
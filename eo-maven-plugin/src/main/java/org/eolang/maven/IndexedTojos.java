@@ -0,0 +1,191 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2021 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.maven;
+
+import com.yegor256.tojos.Mono;
+import com.yegor256.tojos.Tojo;
+import com.yegor256.tojos.Tojos;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Tojos, which are read from the {@link Mono} only once and then live
+ * in memory, indexed by ID, until {@link #flush()} writes them back.
+ *
+ * {@link com.yegor256.tojos.MonoTojos} reads and parses the entire file
+ * on every {@code add()}, {@code select()}, {@code get()}, and writes it
+ * back on every {@code set()}. This class does all of that in memory and
+ * writes the file only when it is flushed and only if something has
+ * changed. It is thread-safe.
+ *
+ * @since 0.22
+ */
+final class IndexedTojos implements Tojos {
+
+    /**
+     * The mono to read from and to flush to.
+     */
+    private final Mono mono;
+
+    /**
+     * All rows, by their IDs, in the order of the mono.
+     */
+    private final Map<String, Map<String, String>> rows;
+
+    /**
+     * Have the rows been read from the mono?
+     */
+    private boolean loaded;
+
+    /**
+     * Are there any changes, not yet flushed?
+     */
+    private boolean dirty;
+
+    /**
+     * Ctor.
+     * @param origin The mono
+     */
+    IndexedTojos(final Mono origin) {
+        this.mono = origin;
+        this.rows = new LinkedHashMap<>(0);
+    }
+
+    @Override
+    public synchronized Tojo add(final String name) {
+        this.load();
+        if (!this.rows.containsKey(name)) {
+            final Map<String, String> row = new HashMap<>(1);
+            row.put("id", name);
+            this.rows.put(name, row);
+            this.dirty = true;
+        }
+        return new IndexedTojos.Row(name);
+    }
+
+    @Override
+    public synchronized List<Tojo> select(final Function<Tojo, Boolean> filter) {
+        this.load();
+        final List<Tojo> list = new ArrayList<>(this.rows.size());
+        for (final String name : this.rows.keySet()) {
+            final Tojo tojo = new IndexedTojos.Row(name);
+            if (filter.apply(tojo)) {
+                list.add(tojo);
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Write all rows to the mono, if anything has changed since they
+     * were read or flushed last time.
+     */
+    public synchronized void flush() {
+        if (this.dirty) {
+            final Collection<Map<String, String>> all =
+                new ArrayList<>(this.rows.size());
+            for (final Map<String, String> row : this.rows.values()) {
+                all.add(new HashMap<>(row));
+            }
+            this.mono.write(all);
+            this.dirty = false;
+        }
+    }
+
+    /**
+     * Read the rows from the mono, if not yet.
+     */
+    private void load() {
+        if (!this.loaded) {
+            for (final Map<String, String> row : this.mono.read()) {
+                this.rows.put(row.get("id"), new HashMap<>(row));
+            }
+            this.loaded = true;
+        }
+    }
+
+    /**
+     * One row.
+     *
+     * @since 0.22
+     */
+    private final class Row implements Tojo {
+
+        /**
+         * The ID of the row.
+         */
+        private final String name;
+
+        /**
+         * Ctor.
+         * @param id The ID
+         */
+        Row(final String id) {
+            this.name = id;
+        }
+
+        @Override
+        public boolean exists(final String key) {
+            synchronized (IndexedTojos.this) {
+                return IndexedTojos.this.rows.get(this.name).containsKey(key);
+            }
+        }
+
+        @Override
+        public String get(final String key) {
+            synchronized (IndexedTojos.this) {
+                final String value = IndexedTojos.this.rows.get(this.name).get(key);
+                if (value == null) {
+                    throw new IllegalStateException(
+                        String.format("There is no '%s' key in the tojo", key)
+                    );
+                }
+                return value;
+            }
+        }
+
+        @Override
+        public Tojo set(final String key, final Object value) {
+            synchronized (IndexedTojos.this) {
+                final String text = value.toString();
+                final Map<String, String> row = IndexedTojos.this.rows.get(this.name);
+                if (!text.equals(row.put(key, text))) {
+                    IndexedTojos.this.dirty = true;
+                }
+                return this;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return this.name;
+        }
+    }
+
+}
@@ -24,13 +24,17 @@
 package org.eolang.maven;
 
 import com.jcabi.log.Logger;
+import com.jcabi.xml.XML;
 import com.jcabi.xml.XMLDocument;
 import com.yegor256.tojos.Tojo;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.cactoos.io.OutputTo;
@@ -65,7 +69,8 @@ public final class OptimizeMojo extends SafeMojo {
         final Collection<Tojo> sources = this.scopedTojos().select(
             row -> row.exists(AssembleMojo.ATTR_XMIR)
         );
-        int done = 0;
+        final List<Tojo> todo = new ArrayList<>(sources.size());
+        final List<Callable<Path>> tasks = new ArrayList<>(sources.size());
         for (final Tojo tojo : sources) {
             final Path src = Paths.get(tojo.get(AssembleMojo.ATTR_XMIR));
             if (tojo.exists(AssembleMojo.ATTR_XMIR2)) {
@@ -78,16 +83,22 @@ public final class OptimizeMojo extends SafeMojo {
                     continue;
                 }
             }
-            ++done;
-            tojo.set(
-                AssembleMojo.ATTR_XMIR2,
-                this.optimize(src).toAbsolutePath().toString()
-            );
+            todo.add(tojo);
+            tasks.add(() -> this.optimize(src));
         }
-        if (done > 0) {
-            Logger.info(this, "Optimized %d out of %d XMIR program(s)", done, sources.size());
-        } else {
+        new Scheduler(this.threads).exec(
+            tasks,
+            (idx, tgt) -> todo.get(idx).set(
+                AssembleMojo.ATTR_XMIR2, tgt.toAbsolutePath().toString()
+            )
+        );
+        if (todo.isEmpty()) {
             Logger.debug(this, "No XMIR programs out of %d optimized", sources.size());
+        } else {
+            Logger.info(
+                this, "Optimized %d out of %d XMIR program(s) in %d thread(s)",
+                todo.size(), sources.size(), this.threads
+            );
         }
     }
 
@@ -100,7 +111,8 @@ public final class OptimizeMojo extends SafeMojo {
      */
     @SuppressWarnings("PMD.AvoidDuplicateLiterals")
     private Path optimize(final Path file) throws IOException {
-        final String name = new XMLDocument(file).xpath("/program/@name").get(0);
+        final XML xml = Xmirs.load(file);
+        final String name = xml.xpath("/program/@name").get(0);
         final Place place = new Place(name);
         final Path dir = place.make(
             this.targetDir.toPath().resolve(OptimizeMojo.STEPS), ""
@@ -110,9 +122,9 @@ public final class OptimizeMojo extends SafeMojo {
         );
         final ByteArrayOutputStream baos = new ByteArrayOutputStream();
         new Xsline(
-            new XMLDocument(file),
+            xml,
             new OutputTo(baos),
-            new TargetSpy(dir)
+            new TargetSpy(dir, this.spy)
         ).with(
             new ListOf<>(
                 "org/eolang/parser/optimize/globals-to-abstracts.xsl",
@@ -125,7 +137,10 @@ public final class OptimizeMojo extends SafeMojo {
                 "org/eolang/parser/errors/broken-refs.xsl"
             )
         ).pass();
+        final XML out = new XMLDocument(baos.toByteArray());
         new Save(baos.toByteArray(), target).save();
+        Xmirs.saved(target, out);
+        new Summary(target).save(out);
         Logger.debug(
             this, "Optimized %s (program:%s) to %s, all steps are in %s",
             Save.rel(file), name, Save.rel(target), Save.rel(dir)
@@ -24,15 +24,24 @@
 package org.eolang.maven;
 
 import com.jcabi.log.Logger;
+import com.jcabi.xml.XML;
 import com.jcabi.xml.XMLDocument;
 import com.yegor256.tojos.Tojo;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.plugins.annotations.ResolutionScope;
 import org.cactoos.io.InputOf;
 import org.cactoos.io.OutputTo;
@@ -66,70 +75,167 @@ public final class ParseMojo extends SafeMojo {
      */
     public static final String DIR = "01-parse";
 
+    /**
+     * Subdirectory of the cache with parsed XMIRs.
+     */
+    public static final String CACHE = "parsed";
+
+    /**
+     * Validate parsed XMIRs against the XSD schema? Turn it off only
+     * when you trust the parser and need the build to be faster.
+     * @since 0.22
+     */
+    @Parameter(property = "eo.validate", defaultValue = "true")
+    private boolean validate = true;
+
+    /**
+     * How many XMIRs were taken from the cache.
+     */
+    private final AtomicInteger hits = new AtomicInteger();
+
     @Override
     public void exec() throws IOException {
         final Collection<Tojo> tojos = this.scopedTojos().select(
             row -> row.exists(AssembleMojo.ATTR_EO)
         );
-        int total = 0;
+        Optional<String> print = Optional.empty();
+        if (this.cache != null) {
+            print = Fingerprint.code(Syntax.class);
+        }
+        final Optional<String> code = print;
+        final List<Tojo> todo = new ArrayList<>(tojos.size());
+        final List<Callable<Path>> tasks = new ArrayList<>(tojos.size());
         for (final Tojo tojo : tojos) {
+            final String name = tojo.get("id");
+            final Path src = Paths.get(tojo.get(AssembleMojo.ATTR_EO));
             if (tojo.exists(AssembleMojo.ATTR_XMIR)) {
                 final Path xmir = Paths.get(tojo.get(AssembleMojo.ATTR_XMIR));
-                final Path src = Paths.get(tojo.get(AssembleMojo.ATTR_EO));
                 if (xmir.toFile().lastModified() >= src.toFile().lastModified()) {
                     Logger.debug(
                         this, "Already parsed %s to %s (it's newer than the source)",
-                        tojo.get("id"), Save.rel(xmir)
+                        name, Save.rel(xmir)
                     );
                     continue;
                 }
             }
-            this.parse(tojo);
-            ++total;
+            todo.add(tojo);
+            tasks.add(() -> this.parse(name, src, code));
+        }
+        new Scheduler(this.threads).exec(
+            tasks,
+            (idx, xmir) -> todo.get(idx).set(
+                AssembleMojo.ATTR_XMIR, xmir.toAbsolutePath().toString()
+            )
+        );
+        if (this.cache != null && !code.isPresent()) {
+            Logger.info(
+                this, "Cache at %s not used, the fingerprint of the parser is unknown",
+                Save.rel(this.cache.toPath().resolve(ParseMojo.CACHE))
+            );
+        }
+        if (code.isPresent()) {
+            Logger.info(
+                this, "Parsed %d .EO sources to XMIRs in %d thread(s), %d of them found in cache at %s",
+                todo.size(), this.threads, this.hits.get(),
+                Save.rel(this.cache.toPath().resolve(ParseMojo.CACHE))
+            );
+        } else {
+            Logger.info(
+                this, "Parsed %d .EO sources to XMIRs in %d thread(s)",
+                todo.size(), this.threads
+            );
         }
-        Logger.info(this, "Parsed %d .EO sources to XMIRs", total);
     }
 
     /**
      * Parse EO file to XML.
      *
-     * @param tojo The tojo
+     * @param name The name of the program
+     * @param source The path of the .eo file
+     * @param print Fingerprint of the parser, if its results may be cached
+     * @return The path of XMIR
      * @throws IOException If fails
      */
-    private void parse(final Tojo tojo) throws IOException {
-        final Path source = Paths.get(tojo.get(AssembleMojo.ATTR_EO));
-        final String name = tojo.get("id");
-        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        try {
-            new Syntax(
-                name,
-                new InputOf(source),
-                new OutputTo(baos)
-            ).parse();
-        } catch (final ParsingException ex) {
-            throw new IllegalArgumentException(
-                String.format("Failed to parse %s", source),
-                ex
-            );
-        }
+    private Path parse(final String name, final Path source,
+        final Optional<String> print) throws IOException {
+        final byte[] xmir = this.xmir(name, source, print);
         final Path target = new Place(name).make(
             this.targetDir.toPath().resolve(ParseMojo.DIR), Transpiler.EXT
         );
-        new Save(
-            new XMLDocument(
-                new Xembler(
-                    new Directives().xpath("/program").attr(
-                        "source", source.toAbsolutePath()
-                    )
-                ).applyQuietly(new XMLDocument(baos.toByteArray()).node())
-            ).toString(),
-            target
-        ).save();
+        final XML doc = new XMLDocument(
+            new Xembler(
+                new Directives().xpath("/program").attr(
+                    "source", source.toAbsolutePath()
+                )
+            ).applyQuietly(new XMLDocument(xmir).node())
+        );
+        new Save(doc.toString(), target).save();
+        Xmirs.saved(target, doc);
+        new Summary(target).save(doc);
         Logger.debug(
             this, "Parsed %s to %s",
             Save.rel(source), Save.rel(target)
         );
-        tojo.set(AssembleMojo.ATTR_XMIR, target.toAbsolutePath().toString());
+        return target;
+    }
+
+    /**
+     * Parse EO file to XMIR, or take it from the cache, if it's there.
+     *
+     * @param name The name of the program
+     * @param source The path of the .eo file
+     * @param print Fingerprint of the parser, if its results may be cached
+     * @return XMIR, as produced by the parser
+     * @throws IOException If fails
+     */
+    private byte[] xmir(final String name, final Path source,
+        final Optional<String> print) throws IOException {
+        final byte[] content = Files.readAllBytes(source);
+        Optional<byte[]> cached = Optional.empty();
+        String key = "";
+        if (print.isPresent()) {
+            key = Cache.key(
+                name.getBytes(StandardCharsets.UTF_8),
+                print.get().getBytes(StandardCharsets.UTF_8),
+                Boolean.toString(this.validate).getBytes(StandardCharsets.UTF_8),
+                content
+            );
+            cached = this.parsed().load(key);
+        }
+        final byte[] xmir;
+        if (cached.isPresent()) {
+            xmir = cached.get();
+            this.hits.incrementAndGet();
+            Logger.debug(this, "Parsed XMIR of %s found in cache", name);
+        } else {
+            final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            try {
+                new Syntax(
+                    name,
+                    new InputOf(content),
+                    new OutputTo(baos),
+                    this.validate
+                ).parse();
+            } catch (final ParsingException ex) {
+                throw new IllegalArgumentException(
+                    String.format("Failed to parse %s", source),
+                    ex
+                );
+            }
+            xmir = baos.toByteArray();
+            if (!key.isEmpty()) {
+                this.parsed().save(key, xmir);
+            }
+        }
+        return xmir;
+    }
+
+    /**
+     * The cache of parsed XMIRs.
+     * @return The cache
+     */
+    private Cache parsed() {
+        return new Cache(this.cache.toPath().resolve(ParseMojo.CACHE));
     }
 
 }
@@ -24,17 +24,22 @@
 package org.eolang.maven;
 
 import com.jcabi.log.Logger;
+import com.yegor256.tojos.Tojo;
 import com.yegor256.tojos.Tojos;
+import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
-import org.cactoos.io.InputOf;
 import org.cactoos.set.SetOf;
 
 /**
@@ -52,6 +57,12 @@ import org.cactoos.set.SetOf;
 @SuppressWarnings("PMD.ImmutableField")
 public final class PlaceMojo extends SafeMojo {
 
+    /**
+     * Attribute in the "placed" file with the modification time and
+     * the size of the binary at the moment it was placed.
+     */
+    private static final String ATTR_STAMP = "stamp";
+
     /**
      * Output.
      * @checkstyle MemberNameCheck (7 lines)
@@ -75,7 +86,7 @@ public final class PlaceMojo extends SafeMojo {
     private File placed;
 
     /**
-     * Format of "placed" file ("json" or "csv").
+     * Format of "placed" file ("json", "csv" or "bin").
      * @checkstyle MemberNameCheck (7 lines)
      * @checkstyle VisibilityModifierCheck (5 lines)
      */
@@ -99,14 +110,36 @@ public final class PlaceMojo extends SafeMojo {
     @Parameter
     private Set<String> excludeBinaries = new SetOf<>();
 
+    /**
+     * Place binaries as hard links to the unpacked dependencies instead
+     * of copying them, when the file system allows. Don't turn it on
+     * if anything modifies the files in the output directory in place,
+     * since the files in the dependencies will be modified too.
+     * @checkstyle MemberNameCheck (7 lines)
+     * @since 0.22
+     */
+    @Parameter(property = "eo.placeLinks", defaultValue = "false")
+    private boolean placeLinks;
+
     @Override
     public void exec() throws IOException {
         final Path home = this.targetDir.toPath().resolve(ResolveMojo.DIR);
         if (Files.exists(home)) {
             final Collection<String> deps = new DepDirs(home);
+            final IndexedTojos tojos = new Catalog(
+                this.placed.toPath(), this.placedFormat
+            ).make();
+            final Map<String, Tojo> placed = new HashMap<>(0);
+            for (final Tojo tojo : tojos.select(t -> true)) {
+                placed.put(tojo.get("id"), tojo);
+            }
             int copied = 0;
-            for (final String dep : deps) {
-                copied += this.place(home, dep);
+            try {
+                for (final String dep : deps) {
+                    copied += this.place(home, dep, tojos, placed);
+                }
+            } finally {
+                tojos.flush();
             }
             Logger.info(
                 this, "Placed %d binary files found in %d dependencies",
@@ -124,53 +157,151 @@ public final class PlaceMojo extends SafeMojo {
      * Place one dep.
      * @param home Home to read from
      * @param dep The name of dep
+     * @param tojos The tojos of placed files
+     * @param placed The same tojos, by their IDs
      * @return How many binaries placed
      * @throws IOException If fails
+     * @checkstyle ParameterNumberCheck (5 lines)
      */
-    private int place(final Path home, final String dep) throws IOException {
+    private int place(final Path home, final String dep, final Tojos tojos,
+        final Map<String, Tojo> placed) throws IOException {
         final Path dir = home.resolve(dep);
         final Collection<Path> binaries = new Walk(dir)
             .includes(this.includeBinaries)
             .excludes(this.excludeBinaries);
         int copied = 0;
-        final Tojos tojos = new Catalog(this.placed.toPath(), this.placedFormat).make();
         for (final Path file : binaries) {
             final String path = file.toString().substring(dir.toString().length() + 1);
             if (path.startsWith(CopyMojo.DIR)) {
                 continue;
             }
             final Path target = this.outputDir.toPath().resolve(path);
+            final String stamp = PlaceMojo.stamp(file);
             if (Files.exists(target)) {
-                if (target.toFile().length() == file.toFile().length()) {
+                final Tojo before = placed.get(target.toString());
+                if (PlaceMojo.placed(before, stamp, target)
+                    || PlaceMojo.same(file, target)) {
                     Logger.debug(
                         this, "File %s is already placed to %s",
                         Save.rel(file), Save.rel(target)
                     );
                 } else {
                     Logger.warn(
-                        this, "File %s (%d bytes) is already placed to %s (%d bytes!)",
-                        Save.rel(file), file.toFile().length(),
-                        Save.rel(target), target.toFile().length()
+                        this,
+                        "File %s (%d bytes) differs from the already placed %s (%d bytes)!",
+                        Save.rel(file), Files.size(file),
+                        Save.rel(target), Files.size(target)
                     );
                 }
                 continue;
             }
-            new Save(new InputOf(file), target).save();
-            tojos.add(target.toString());
+            this.copy(file, target);
+            tojos.add(target.toString()).set(PlaceMojo.ATTR_STAMP, stamp);
             ++copied;
         }
         if (copied > 0) {
             Logger.info(
                 this, "Placed %d binary file(s) out of %d, found in %s",
-                copied, new Walk(dir).size(), dep
+                copied, binaries.size(), dep
             );
         } else {
             Logger.info(
                 this, "No binary file(s) out of %d were placed from %s",
-                new Walk(dir).size(), dep
+                binaries.size(), dep
             );
         }
         return copied;
     }
 
+    /**
+     * Place one file: make a hard link, if allowed and possible,
+     * or copy it otherwise.
+     * @param file The file
+     * @param target Where to place it
+     * @throws IOException If fails
+     */
+    private void copy(final Path file, final Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        boolean linked = false;
+        if (this.placeLinks) {
+            try {
+                Files.createLink(target, file);
+                linked = true;
+            } catch (final IOException | UnsupportedOperationException ex) {
+                Logger.debug(
+                    this, "Can't link %s to %s, will copy: %s",
+                    Save.rel(file), Save.rel(target), ex.getMessage()
+                );
+            }
+        }
+        if (!linked) {
+            Files.copy(file, target, StandardCopyOption.COPY_ATTRIBUTES);
+        }
+        Logger.debug(
+            this, "File %s placed to %s", Save.rel(file), Save.rel(target)
+        );
+    }
+
+    /**
+     * Is the target placed from the binary, which has not been changed
+     * since then, and has not been changed itself? Both files keep
+     * the modification time of the binary, since it's either copied
+     * with its attributes or linked.
+     * @param before The tojo of the target in the "placed" file, or NULL
+     * @param stamp The stamp of the binary now
+     * @param target The target
+     * @return TRUE if it's placed and nothing was changed
+     * @throws IOException If fails
+     */
+    private static boolean placed(final Tojo before, final String stamp,
+        final Path target) throws IOException {
+        return before != null && before.exists(PlaceMojo.ATTR_STAMP)
+            && stamp.equals(before.get(PlaceMojo.ATTR_STAMP))
+            && stamp.equals(PlaceMojo.stamp(target));
+    }
+
+    /**
+     * Are these two files the same: of the same size and with the same
+     * content? The content is read in small portions, not all at once.
+     * @param first The first file
+     * @param second The second one
+     * @return TRUE if they are the same
+     * @throws IOException If fails
+     */
+    private static boolean same(final Path first, final Path second)
+        throws IOException {
+        boolean same = Files.size(first) == Files.size(second);
+        if (same && !Files.isSameFile(first, second)) {
+            try (
+                InputStream left = new BufferedInputStream(Files.newInputStream(first));
+                InputStream right = new BufferedInputStream(Files.newInputStream(second))
+            ) {
+                while (true) {
+                    final int one = left.read();
+                    if (one != right.read()) {
+                        same = false;
+                        break;
+                    }
+                    if (one < 0) {
+                        break;
+                    }
+                }
+            }
+        }
+        return same;
+    }
+
+    /**
+     * The modification time and the size of the file.
+     * @param file The file
+     * @return The stamp
+     * @throws IOException If fails
+     */
+    private static String stamp(final Path file) throws IOException {
+        return String.format(
+            "%d/%d",
+            Files.getLastModifiedTime(file).toMillis(), Files.size(file)
+        );
+    }
+
 }
@@ -25,9 +25,14 @@ package org.eolang.maven;
 
 import com.jcabi.log.Logger;
 import com.yegor256.tojos.Tojo;
+import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
@@ -51,6 +56,16 @@ public final class PullMojo extends SafeMojo {
      */
     public static final String DIR = "04-pull";
 
+    /**
+     * Subdirectory of the cache with pulled objects.
+     */
+    public static final String CACHE = "pulled";
+
+    /**
+     * How long to keep objects of a branch in the cache, in milliseconds.
+     */
+    private static final long BRANCH_AGE = TimeUnit.DAYS.toMillis(1L);
+
     /**
      * The Git hash to pull objects from, in objectionary.
      * @since 0.21.0
@@ -67,6 +82,14 @@ public final class PullMojo extends SafeMojo {
     @Parameter(required = true, defaultValue = "false")
     private boolean overWrite;
 
+    /**
+     * The {@link Bundle} with objects, to take them from before going
+     * to objectionary, see {@link BundleMojo}.
+     * @since 0.22
+     */
+    @Parameter(property = "eo.bundle")
+    private File bundle;
+
     /**
      * The objectionary.
      */
@@ -83,24 +106,67 @@ public final class PullMojo extends SafeMojo {
             this.objectionary = new RemoteObjectionary(this.hash);
         }
         if (!tojos.isEmpty()) {
-            for (final Tojo tojo : tojos) {
-                tojo.set(
-                    AssembleMojo.ATTR_EO,
-                    this.pull(tojo.get("id")).toAbsolutePath().toString()
-                );
+            final Objectionary objs = this.objectionary();
+            final List<Tojo> todo = new ArrayList<>(tojos);
+            final List<Callable<Path>> tasks = new ArrayList<>(todo.size());
+            for (final Tojo tojo : todo) {
+                final String name = tojo.get("id");
+                tasks.add(() -> this.pull(objs, name));
             }
-            Logger.info(this, "%d program(s) pulled", tojos.size());
+            new Scheduler(this.threads).exec(
+                tasks,
+                (idx, src) -> todo.get(idx).set(
+                    AssembleMojo.ATTR_EO, src.toAbsolutePath().toString()
+                )
+            );
+            Logger.info(
+                this, "%d program(s) pulled in %d thread(s)",
+                tojos.size(), this.threads
+            );
+        }
+    }
+
+    /**
+     * The objectionary to pull from, with the bundle and the cache
+     * in front of it, if they are enabled.
+     *
+     * <p>Objects of a commit hash are cached forever, while objects
+     * of a branch, like "master", are pulled again once a day.</p>
+     *
+     * @return The objectionary
+     */
+    private Objectionary objectionary() {
+        Objectionary objs = this.objectionary;
+        if (this.cache != null) {
+            final long age;
+            if (this.hash.matches("[0-9a-f]{40}")) {
+                age = Long.MAX_VALUE;
+            } else {
+                age = PullMojo.BRANCH_AGE;
+            }
+            objs = new CachedObjectionary(
+                objs,
+                new Cache(this.cache.toPath().resolve(PullMojo.CACHE)),
+                this.hash,
+                age
+            );
+        }
+        if (this.bundle != null) {
+            objs = new BundledObjectionary(new Bundle(this.bundle.toPath()), objs);
         }
+        return objs;
     }
 
     /**
      * Pull one object.
      *
+     * @param objs The objectionary
      * @param name Name of the object, e.g. "org.eolang.io.stdout"
      * @return The path of .eo file
      * @throws IOException If fails
      */
-    private Path pull(final String name) throws IOException {
+    private Path pull(final Objectionary objs, final String name)
+        throws IOException {
         final Path src = new Place(name).make(
             this.targetDir.toPath().resolve(PullMojo.DIR), "eo"
         );
@@ -111,7 +177,7 @@ public final class PullMojo extends SafeMojo {
             );
         } else {
             new Save(
-                this.objectionary.get(name),
+                objs.get(name),
                 src
             ).save();
             Logger.debug(
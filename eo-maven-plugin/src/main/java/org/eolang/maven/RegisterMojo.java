@@ -24,6 +24,7 @@
 package org.eolang.maven;
 
 import com.jcabi.log.Logger;
+import com.yegor256.tojos.Tojo;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
@@ -97,9 +98,13 @@ public final class RegisterMojo extends SafeMojo {
             .includes(this.includeSources)
             .excludes(this.excludeSources);
         final Unplace unplace = new Unplace(this.sourcesDir);
+        final Collection<String> registered = new HashSet<>(0);
+        for (final Tojo tojo : this.scopedTojos().select(t -> true)) {
+            registered.add(tojo.get("id"));
+        }
         for (final Path file : sources) {
             final String name = unplace.make(file);
-            if (!this.scopedTojos().select(t -> t.get("id").equals(name)).isEmpty()) {
+            if (registered.contains(name)) {
                 Logger.debug(this, "EO source %s already registered", name);
                 continue;
             }
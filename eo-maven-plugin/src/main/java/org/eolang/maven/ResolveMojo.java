@@ -24,17 +24,20 @@
 package org.eolang.maven;
 
 import com.jcabi.log.Logger;
-import com.jcabi.xml.XMLDocument;
 import com.yegor256.tojos.Tojo;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Callable;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.apache.maven.model.Dependency;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
@@ -88,9 +91,11 @@ public final class ResolveMojo extends SafeMojo {
     @Override
     public void exec() throws IOException {
         if (this.central == null) {
-            this.central = new Central(this.project, this.session, this.manager);
+            this.central = new Central(this.project, this.session, this.repos);
         }
         final Collection<Dependency> deps = this.deps();
+        final List<String> todo = new ArrayList<>(deps.size());
+        final List<Callable<Path>> tasks = new ArrayList<>(deps.size());
         for (final Dependency dep : deps) {
             final String coords = ResolveMojo.coords(dep);
             final Path dest = this.targetDir.toPath().resolve(ResolveMojo.DIR)
@@ -104,24 +109,32 @@ public final class ResolveMojo extends SafeMojo {
                 );
                 continue;
             }
-            this.central.accept(dep, dest);
-            final int files = new Walk(dest).size();
-            if (files == 0) {
-                Logger.warn(
-                    this, "No new files after unpacking of %s!",
-                    coords
-                );
-            } else {
-                Logger.info(
-                    this, "Found %d new file(s) after unpacking of %s",
-                    files, coords
-                );
-            }
+            todo.add(coords);
+            tasks.add(
+                () -> {
+                    this.central.accept(dep, dest);
+                    return dest;
+                }
+            );
         }
+        new Scheduler(this.threads).exec(
+            tasks,
+            (idx, dest) -> {
+                if (ResolveMojo.empty(dest)) {
+                    Logger.warn(
+                        this, "No new files after unpacking of %s!",
+                        todo.get(idx)
+                    );
+                }
+            }
+        );
         if (deps.isEmpty()) {
             Logger.debug(this, "No new dependencies unpacked");
         } else {
-            Logger.info(this, "New %d dependenc(ies) unpacked", deps.size());
+            Logger.info(
+                this, "New %d dependenc(ies) unpacked in %d thread(s)",
+                tasks.size(), this.threads
+            );
         }
     }
 
@@ -194,9 +207,7 @@ public final class ResolveMojo extends SafeMojo {
      * @throws IOException If fails
      */
     private static Optional<Dependency> artifact(final Path file) throws IOException {
-        final Collection<String> coords = new XMLDocument(file).xpath(
-            "//meta[head='rt' and part[1]='jvm']/part[2]/text()"
-        );
+        final Collection<String> coords = new Summary(file).runtimes("jvm");
         final Optional<Dependency> dep;
         if (coords.isEmpty()) {
             dep = Optional.empty();
@@ -220,6 +231,22 @@ public final class ResolveMojo extends SafeMojo {
         return dep;
     }
 
+    /**
+     * Is this directory absent or empty?
+     * @param dir The directory
+     * @return TRUE if there are no files in it
+     * @throws IOException If fails
+     */
+    private static boolean empty(final Path dir) throws IOException {
+        boolean empty = true;
+        if (Files.exists(dir)) {
+            try (Stream<Path> files = Files.list(dir)) {
+                empty = !files.findAny().isPresent();
+            }
+        }
+        return empty;
+    }
+
     /**
      * Dep to coords.
      * @param dep The dependency
@@ -31,11 +31,11 @@ import java.util.List;
 import java.util.function.Function;
 import org.apache.maven.execution.MavenSession;
 import org.apache.maven.plugin.AbstractMojo;
-import org.apache.maven.plugin.BuildPluginManager;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugins.annotations.Component;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.project.MavenProject;
+import org.eclipse.aether.RepositorySystem;
 import org.slf4j.impl.StaticLoggerBinder;
 
 /**
@@ -60,11 +60,12 @@ abstract class SafeMojo extends AbstractMojo {
     protected MavenSession session;
 
     /**
-     * Maven plugin manager.
+     * Maven repository system.
      * @checkstyle VisibilityModifierCheck (5 lines)
+     * @since 0.22
      */
     @Component
-    protected BuildPluginManager manager;
+    protected RepositorySystem repos;
 
     /**
      * File with foreign "tojos".
@@ -74,7 +75,7 @@ abstract class SafeMojo extends AbstractMojo {
     protected File foreign;
 
     /**
-     * Format of "foreign" file ("json" or "csv").
+     * Format of "foreign" file ("json", "csv" or "bin").
      * @checkstyle MemberNameCheck (7 lines)
      * @checkstyle VisibilityModifierCheck (5 lines)
      */
@@ -90,6 +91,32 @@ abstract class SafeMojo extends AbstractMojo {
     @Parameter(required = true, defaultValue = "${project.build.directory}/eo")
     protected File targetDir;
 
+    /**
+     * The directory with caches, shared among modules and builds,
+     * or NULL if nothing has to be cached.
+     * @checkstyle VisibilityModifierCheck (5 lines)
+     * @since 0.22
+     */
+    @Parameter(property = "eo.cache", defaultValue = "${user.home}/.eo")
+    protected File cache;
+
+    /**
+     * How many threads to use for processing of independent programs.
+     * @checkstyle VisibilityModifierCheck (5 lines)
+     * @since 0.22
+     */
+    @Parameter(property = "eo.threads")
+    protected int threads = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Which steps of XSL pipelines to save into the target directory:
+     * "off", "errors", "sampled", or "full".
+     * @checkstyle VisibilityModifierCheck (5 lines)
+     * @since 0.22
+     */
+    @Parameter(property = "eo.spy", defaultValue = "full")
+    protected String spy = "full";
+
     /**
      * Current scope (either "compile" or "test").
      * @checkstyle VisibilityModifierCheck (5 lines)
@@ -97,6 +124,14 @@ abstract class SafeMojo extends AbstractMojo {
     @Parameter
     protected String scope = "compile";
 
+    /**
+     * Foreign tojos, read once and kept in memory while the mojo works,
+     * or NULL if not yet read. When one mojo runs others
+     * (see {@link AssembleMojo}), they all share the same tojos, which
+     * are written back to the file when each of them is done.
+     */
+    private IndexedTojos catalog;
+
     @Override
     public final void execute() throws MojoFailureException {
         StaticLoggerBinder.getSingleton().setMavenLog(this.getLog());
@@ -110,6 +145,10 @@ abstract class SafeMojo extends AbstractMojo {
                 ),
                 ex
             );
+        } finally {
+            if (this.catalog != null) {
+                this.catalog.flush();
+            }
         }
     }
 
@@ -118,7 +157,12 @@ abstract class SafeMojo extends AbstractMojo {
      * @return Tojos to use
      */
     protected final Tojos tojos() {
-        return new Catalog(this.foreign.toPath(), this.foreignFormat).make();
+        if (this.catalog == null) {
+            this.catalog = new Catalog(
+                this.foreign.toPath(), this.foreignFormat
+            ).make();
+        }
+        return this.catalog;
     }
 
     /**
@@ -0,0 +1,138 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2021 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.maven;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.cactoos.BiProc;
+
+/**
+ * Runs independent per-program tasks on a pool of threads and
+ * hands their results back to the calling thread, in the original order.
+ *
+ * <p>The tasks must not touch the catalog, since it is not thread-safe:
+ * they only do the heavy lifting (parsing, XSL transformations, etc.),
+ * while all catalog updates have to be made in the callback, which
+ * is always called in the thread of the mojo.</p>
+ *
+ * <p>If some tasks fail, all failures are reported to the log, in the
+ * order of tasks, and the first one is thrown. The callback is not
+ * called for the results that follow the first failure.</p>
+ *
+ * @since 0.22
+ */
+final class Scheduler {
+
+    /**
+     * How many threads to use.
+     */
+    private final int threads;
+
+    /**
+     * Ctor.
+     * @param total How many threads to use
+     */
+    Scheduler(final int total) {
+        this.threads = Math.max(1, total);
+    }
+
+    /**
+     * Run them all.
+     * @param tasks The tasks
+     * @param done The callback, which gets the position of a task and its result
+     * @param <T> Type of result
+     * @throws IOException If fails
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public <T> void exec(final List<? extends Callable<T>> tasks,
+        final BiProc<Integer, T> done) throws IOException {
+        final ExecutorService service = Executors.newFixedThreadPool(
+            Math.min(this.threads, Math.max(1, tasks.size()))
+        );
+        Throwable first = null;
+        try {
+            final List<Future<T>> futures = new ArrayList<>(tasks.size());
+            for (final Callable<T> task : tasks) {
+                futures.add(service.submit(task));
+            }
+            for (int idx = 0; idx < futures.size(); ++idx) {
+                final T result;
+                try {
+                    result = futures.get(idx).get();
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(ex);
+                } catch (final ExecutionException ex) {
+                    Logger.error(
+                        this, "Task #%d of %d failed: %s",
+                        idx + 1, futures.size(), ex.getCause().getMessage()
+                    );
+                    if (first == null) {
+                        first = ex.getCause();
+                    }
+                    continue;
+                }
+                if (first == null) {
+                    try {
+                        done.exec(idx, result);
+                    // @checkstyle IllegalCatchCheck (1 line)
+                    } catch (final Exception ex) {
+                        first = ex;
+                    }
+                }
+            }
+        } finally {
+            service.shutdownNow();
+        }
+        Scheduler.rethrow(first);
+    }
+
+    /**
+     * Throw it, if it's not NULL.
+     * @param error The error or NULL
+     * @throws IOException If it's I/O error
+     */
+    private static void rethrow(final Throwable error) throws IOException {
+        if (error instanceof IOException) {
+            throw (IOException) error;
+        }
+        if (error instanceof RuntimeException) {
+            throw (RuntimeException) error;
+        }
+        if (error instanceof Error) {
+            throw (Error) error;
+        }
+        if (error != null) {
+            throw new IllegalStateException(error);
+        }
+    }
+
+}
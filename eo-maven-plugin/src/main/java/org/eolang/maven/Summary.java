@@ -0,0 +1,244 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2021 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.maven;
+
+import com.jcabi.xml.XML;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Summary of a program in XMIR: its name, package, aliases, foreign
+ * objects it uses, whether it uses varargs, and its runtime
+ * dependencies.
+ *
+ * <p>The summary is saved next to the XMIR file, in a ".sum" file, one
+ * "key value" pair per line, so that it can be read without parsing
+ * the XMIR. The modification time and the size of the XMIR are saved
+ * there too. If the file is absent or they don't match the XMIR any
+ * more, the summary is made from the XMIR again and saved.</p>
+ *
+ * @since 0.22
+ */
+final class Summary {
+
+    /**
+     * Extension of summary files.
+     */
+    public static final String EXT = "sum";
+
+    /**
+     * Key of the modification time and the size of the XMIR.
+     */
+    private static final String XMIR = "xmir";
+
+    /**
+     * Key of the name.
+     */
+    private static final String NAME = "name";
+
+    /**
+     * Key of the package.
+     */
+    private static final String PACKAGE = "package";
+
+    /**
+     * Key of an alias.
+     */
+    private static final String ALIAS = "alias";
+
+    /**
+     * Key of a foreign object.
+     */
+    private static final String FOREIGN = "foreign";
+
+    /**
+     * Key of the vararg flag.
+     */
+    private static final String VARARG = "vararg";
+
+    /**
+     * Key of a runtime dependency.
+     */
+    private static final String RT = "rt";
+
+    /**
+     * The XMIR file.
+     */
+    private final Path xmir;
+
+    /**
+     * Ctor.
+     * @param file The XMIR file
+     */
+    Summary(final Path file) {
+        this.xmir = file;
+    }
+
+    /**
+     * Make a summary of the XMIR and save it.
+     * @param xml The XMIR, which is in the file
+     * @throws IOException If fails
+     */
+    public void save(final XML xml) throws IOException {
+        final List<String> lines = new ArrayList<>(0);
+        lines.add(Summary.line(Summary.XMIR, this.stamp()));
+        for (final String name : xml.xpath("/program/@name")) {
+            lines.add(Summary.line(Summary.NAME, name));
+        }
+        for (final String pkg : xml.xpath("/program/metas/meta[head='package']/tail/text()")) {
+            lines.add(Summary.line(Summary.PACKAGE, pkg));
+        }
+        for (final String alias : xml.xpath("/program/metas/meta[head='alias']/tail/text()")) {
+            lines.add(Summary.line(Summary.ALIAS, alias));
+        }
+        for (final String base : new LinkedHashSet<>(
+            xml.xpath(
+                String.join(
+                    " ",
+                    "//o[",
+                    "not(starts-with(@base,'.'))",
+                    " and @base != '^'",
+                    " and @base != '$'",
+                    " and @base != '&'",
+                    " and not(@ref)",
+                    "]/@base"
+                )
+            )
+        )) {
+            if (!base.isEmpty()) {
+                lines.add(Summary.line(Summary.FOREIGN, base));
+            }
+        }
+        if (!xml.nodes("//o[@vararg]").isEmpty()) {
+            lines.add(Summary.line(Summary.VARARG, "true"));
+        }
+        for (final XML meta : xml.nodes("/program/metas/meta[head='rt']")) {
+            lines.add(
+                Summary.line(Summary.RT, String.join(" ", meta.xpath("part/text()")))
+            );
+        }
+        Files.write(this.path(), lines, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Foreign objects, used by the program.
+     * @return Their names
+     * @throws IOException If fails
+     */
+    public Collection<String> foreign() throws IOException {
+        return this.values(Summary.FOREIGN);
+    }
+
+    /**
+     * Does the program use varargs?
+     * @return TRUE if it does
+     * @throws IOException If fails
+     */
+    public boolean vararg() throws IOException {
+        return !this.values(Summary.VARARG).isEmpty();
+    }
+
+    /**
+     * Runtime dependencies for the platform.
+     * @param platform The platform, like "jvm"
+     * @return Coordinates of dependencies, like "org.eolang:eo-runtime:0.1.0"
+     * @throws IOException If fails
+     */
+    public Collection<String> runtimes(final String platform) throws IOException {
+        final String prefix = String.format("%s ", platform);
+        final Collection<String> coords = new ArrayList<>(1);
+        for (final String value : this.values(Summary.RT)) {
+            if (value.startsWith(prefix)) {
+                coords.add(value.substring(prefix.length()));
+            }
+        }
+        return coords;
+    }
+
+    /**
+     * All values of the key.
+     * @param key The key
+     * @return The values
+     * @throws IOException If fails
+     */
+    private Collection<String> values(final String key) throws IOException {
+        final Path path = this.path();
+        List<String> lines = Collections.emptyList();
+        if (Files.exists(path)) {
+            lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+        }
+        if (!lines.contains(Summary.line(Summary.XMIR, this.stamp()))) {
+            this.save(Xmirs.load(this.xmir));
+            lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+        }
+        final String prefix = String.format("%s ", key);
+        final Collection<String> values = new ArrayList<>(0);
+        for (final String line : lines) {
+            if (line.startsWith(prefix)) {
+                values.add(line.substring(prefix.length()));
+            }
+        }
+        return values;
+    }
+
+    /**
+     * The modification time and the size of the XMIR.
+     * @return The stamp
+     * @throws IOException If fails
+     */
+    private String stamp() throws IOException {
+        return String.format(
+            "%d/%d",
+            Files.getLastModifiedTime(this.xmir).toMillis(), Files.size(this.xmir)
+        );
+    }
+
+    /**
+     * The file of the summary.
+     * @return The path
+     */
+    private Path path() {
+        return this.xmir.resolveSibling(
+            String.format("%s.%s", this.xmir.getFileName(), Summary.EXT)
+        );
+    }
+
+    /**
+     * Make a line.
+     * @param key The key
+     * @param value The value
+     * @return The line, with line breaks in the value replaced by spaces
+     */
+    private static String line(final String key, final String value) {
+        return String.format("%s %s", key, value.replaceAll("[\\r\\n]+", " "));
+    }
+
+}
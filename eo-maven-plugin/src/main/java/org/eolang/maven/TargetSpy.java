@@ -25,49 +25,153 @@ package org.eolang.maven;
 
 import com.jcabi.log.Logger;
 import com.jcabi.xml.XML;
-import com.jcabi.xml.XMLDocument;
 import com.jcabi.xml.XSL;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import org.cactoos.list.ListOf;
 import org.eolang.parser.Spy;
 
 /**
  * The spy to log all results.
  *
+ * It works in one of these modes:
+ * "off" (nothing is saved),
+ * "errors" (only the steps that found new errors are saved),
+ * "sampled" (all steps are saved, but only for one program out of ten,
+ * picked by the hash of its directory, the same in every build),
+ * and "full" (all steps are saved).
+ *
  * @since 0.1
  */
 final class TargetSpy implements Spy {
 
+    /**
+     * All known modes.
+     */
+    private static final List<String> MODES = new ListOf<>(
+        "off", "errors", "sampled", "full"
+    );
+
+    /**
+     * One out of how many programs is saved in "sampled" mode.
+     */
+    private static final int SAMPLE = 10;
+
+    /**
+     * The ID of the sheet, in the attribute of its root element.
+     */
+    private static final Pattern ID = Pattern.compile(
+        "<xsl:(?:stylesheet|transform)\\s[^>]*?\\bid\\s*=\\s*[\"']([^\"']*)[\"']"
+    );
+
     /**
      * The dir.
      */
     private final Path dir;
 
+    /**
+     * The mode.
+     */
+    private final String mode;
+
+    /**
+     * How many errors were there in the previous step.
+     */
+    private double errors;
+
     /**
      * Ctor.
      * @param target The path
+     * @param mde The mode
      */
-    TargetSpy(final Path target) {
+    TargetSpy(final Path target, final String mde) {
+        if (!TargetSpy.MODES.contains(mde)) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Unknown spy mode '%s', only these are allowed: %s",
+                    mde, TargetSpy.MODES
+                )
+            );
+        }
         this.dir = target;
+        this.mode = mde;
     }
 
     @Override
     public void push(final int index, final XSL xsl, final XML xml)
         throws IOException {
-        final List<String> names = new XMLDocument(xsl.toString()).xpath("/*/@id");
+        if (this.saves(xml)) {
+            String file = TargetSpy.name(xsl);
+            if (file.isEmpty()) {
+                file = String.format("%d", index);
+            }
+            final Path path = this.dir.resolve(
+                String.format("%02d-%s.xml", index, file)
+            );
+            new Save(xml.toString(), path).save();
+            Logger.debug(this, "Step #%d by %s saved to %s", index, file, Save.rel(path));
+        }
+    }
+
+    /**
+     * Shall this step be saved?
+     * @param xml The XML produced by the step
+     * @return TRUE if it has to be saved
+     */
+    private boolean saves(final XML xml) {
+        final boolean saves;
+        if ("full".equals(this.mode)) {
+            saves = true;
+        } else if ("sampled".equals(this.mode)) {
+            saves = Math.floorMod(this.dir.toString().hashCode(), TargetSpy.SAMPLE) == 0;
+        } else if ("errors".equals(this.mode)) {
+            final double total = TargetSpy.errors(xml);
+            saves = total > this.errors;
+            this.errors = total;
+        } else {
+            saves = false;
+        }
+        return saves;
+    }
+
+    /**
+     * Count errors in the XML, without copying its DOM.
+     * @param xml The XML
+     * @return How many errors are there
+     */
+    private static double errors(final XML xml) {
+        try {
+            return (Double) XPathFactory.newInstance().newXPath().evaluate(
+                "count(/program/errors/error)", xml.node(), XPathConstants.NUMBER
+            );
+        } catch (final XPathExpressionException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Make a file name from the ID of the sheet.
+     *
+     * The ID is found in the text of the sheet by a regular expression,
+     * since parsing the sheet as XML in every step takes much longer.
+     *
+     * @param xsl The sheet
+     * @return File name
+     */
+    private static String name(final XSL xsl) {
+        final Matcher matcher = TargetSpy.ID.matcher(xsl.toString());
         final String file;
-        if (names.isEmpty()) {
-            file = String.format("%d", index);
+        if (matcher.find()) {
+            file = matcher.group(1).replaceAll("[^a-z0-9]", "-");
         } else {
-            file = names.get(0).replaceAll("[^a-z0-9]", "-");
+            file = "";
         }
-        new Save(
-            xml.toString(),
-            this.dir.resolve(
-                String.format("%02d-%s.xml", index, file)
-            )
-        ).save();
-        Logger.debug(this, "Step #%d by %s:\n%s", index, file, xml);
+        return file;
     }
 }
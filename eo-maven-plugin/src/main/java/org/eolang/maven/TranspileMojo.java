@@ -27,12 +27,19 @@ import com.jcabi.log.Logger;
 import com.yegor256.tojos.Tojo;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.eolang.parser.Xsline;
 
 /**
  * Compile.
@@ -59,6 +66,11 @@ public final class TranspileMojo extends SafeMojo {
      */
     public static final String PRE = "05-pre";
 
+    /**
+     * Subdirectory of the cache with transpiled .java files.
+     */
+    public static final String CACHE = "transpiled";
+
     /**
      * Target directory.
      * @checkstyle MemberNameCheck (7 lines)
@@ -95,12 +107,30 @@ public final class TranspileMojo extends SafeMojo {
 
     @Override
     public void exec() throws IOException {
+        final long start = System.currentTimeMillis();
         final Transpiler cmp;
+        TranspilerCanonical canonical = null;
+        Cache transpiled = null;
         if ("canonical".equals(this.compiler)) {
-            cmp = new TranspilerCanonical(
+            String print = "";
+            if (this.cache != null) {
+                final Optional<String> sheets = Fingerprint.code(TranspilerCanonical.class);
+                final Optional<String> xsline = Fingerprint.code(Xsline.class);
+                if (sheets.isPresent() && xsline.isPresent()) {
+                    transpiled = new Cache(
+                        this.cache.toPath().resolve(TranspileMojo.CACHE)
+                    );
+                    print = String.format("%s %s", sheets.get(), xsline.get());
+                }
+            }
+            canonical = new TranspilerCanonical(
                 this.targetDir.toPath().resolve(TranspileMojo.DIR),
-                this.targetDir.toPath().resolve(TranspileMojo.PRE)
+                this.targetDir.toPath().resolve(TranspileMojo.PRE),
+                this.spy,
+                transpiled,
+                print
             );
+            cmp = canonical;
         } else {
             cmp = new TranspilerAlternative(this.compiler);
         }
@@ -108,18 +138,39 @@ public final class TranspileMojo extends SafeMojo {
             row -> row.exists(AssembleMojo.ATTR_XMIR2)
                 && row.get(AssembleMojo.ATTR_SCOPE).equals(this.scope)
         );
-        int total = 0;
+        final List<Callable<Integer>> tasks = new ArrayList<>(sources.size());
         for (final Tojo tojo : sources) {
-            final int done = cmp.transpile(
-                Paths.get(tojo.get(AssembleMojo.ATTR_XMIR2)),
-                this.generatedDir.toPath()
-            );
-            total += done;
+            final Path xmir = Paths.get(tojo.get(AssembleMojo.ATTR_XMIR2));
+            tasks.add(() -> cmp.transpile(xmir, this.generatedDir.toPath()));
         }
+        final AtomicInteger total = new AtomicInteger();
+        new Scheduler(this.threads).exec(
+            tasks, (idx, done) -> total.addAndGet(done)
+        );
         Logger.info(
-            this, "Transpiled %d XMIRs, created %d Java files in %s",
-            total, sources.size(), Save.rel(this.generatedDir.toPath())
+            this, "Transpiled %d XMIRs in %[ms]s, created %d Java files in %s",
+            sources.size(), System.currentTimeMillis() - start,
+            total.get(), Save.rel(this.generatedDir.toPath())
         );
+        if (canonical != null && this.cache != null) {
+            final String dir = Save.rel(this.cache.toPath().resolve(TranspileMojo.CACHE));
+            if (transpiled == null) {
+                Logger.info(
+                    this, "Cache at %s not used, the fingerprint of the transpiler is unknown",
+                    dir
+                );
+            } else if ("off".equals(this.spy)) {
+                Logger.info(
+                    this, "%d of %d XMIRs found in cache at %s",
+                    canonical.hits(), sources.size(), dir
+                );
+            } else {
+                Logger.info(
+                    this, "Nothing taken from cache at %s, since the spy is '%s'",
+                    dir, this.spy
+                );
+            }
+        }
         if (this.addSourcesRoot) {
             this.project.addCompileSourceRoot(
                 this.generatedDir.getAbsolutePath()
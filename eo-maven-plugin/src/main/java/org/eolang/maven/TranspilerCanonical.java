@@ -27,9 +27,16 @@ import com.jcabi.log.Logger;
 import com.jcabi.xml.XML;
 import com.jcabi.xml.XMLDocument;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.cactoos.io.OutputTo;
 import org.cactoos.list.ListOf;
 import org.cactoos.text.Joined;
@@ -38,6 +45,14 @@ import org.eolang.parser.Xsline;
 /**
  * Native compiler.
  *
+ * When the cache is provided, the .java files generated from each XMIR
+ * are saved there, keyed by the hash of the XMIR and the fingerprint
+ * of the code that transpiles it, see {@link Fingerprint}.
+ * When the same XMIR comes again, in this build or in any other one,
+ * they are restored from the cache, without running XSL at all.
+ * This happens only when the spy is "off", since otherwise it must
+ * see every step of a real transpilation.
+ *
  * @since 0.1
  * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
  */
@@ -53,23 +68,117 @@ final class TranspilerCanonical implements Transpiler {
      */
     private final Path pre;
 
+    /**
+     * The mode of the spy.
+     */
+    private final String spy;
+
+    /**
+     * The cache of generated .java files, or NULL if nothing has
+     * to be cached.
+     */
+    private final Cache cache;
+
+    /**
+     * Fingerprint of the code, which transpiles XMIRs.
+     */
+    private final String print;
+
+    /**
+     * How many XMIRs were found in the cache.
+     */
+    private final AtomicInteger hits;
+
     /**
      * Ctor.
      * @param tmp The temp
      * @param ppre The pre
+     * @param mode The mode of the spy
+     * @param cch The cache or NULL
+     * @param prnt Fingerprint of the code, which transpiles
+     * @checkstyle ParameterNumberCheck (5 lines)
      */
-    TranspilerCanonical(final Path tmp, final Path ppre) {
+    TranspilerCanonical(final Path tmp, final Path ppre, final String mode,
+        final Cache cch, final String prnt) {
         this.temp = tmp;
         this.pre = ppre;
+        this.spy = mode;
+        this.cache = cch;
+        this.print = prnt;
+        this.hits = new AtomicInteger();
     }
 
     @Override
     public int transpile(final Path file, final Path generated) throws IOException {
-        final XML input = new XMLDocument(file);
+        final byte[] content = Files.readAllBytes(file);
+        String key = "";
+        Optional<Map<String, byte[]>> cached = Optional.empty();
+        if (this.cache != null) {
+            key = Cache.key(
+                this.print.getBytes(StandardCharsets.UTF_8),
+                content
+            );
+            if ("off".equals(this.spy)) {
+                cached = this.restore(key);
+            }
+        }
+        final int total;
+        if (cached.isPresent()) {
+            this.hits.incrementAndGet();
+            total = TranspilerCanonical.write(cached.get(), generated);
+            Logger.debug(
+                this, "XMIR %s found in cache, restored %d .java file(s) in %s",
+                Save.rel(file), total, Save.rel(generated)
+            );
+        } else {
+            final Optional<Map<String, byte[]>> javas = this.javas(
+                file, Xmirs.load(file)
+            );
+            if (javas.isPresent()) {
+                if (this.cache != null) {
+                    this.store(key, javas.get());
+                }
+                total = TranspilerCanonical.write(javas.get(), generated);
+                if (total == 0) {
+                    Logger.info(
+                        this, "Transpiled %s but no .java files created",
+                        Save.rel(file)
+                    );
+                } else {
+                    Logger.info(
+                        this, "Transpiled %s to %s, created %d .java file(s)",
+                        Save.rel(file), Save.rel(generated), total
+                    );
+                }
+            } else {
+                total = 0;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * How many XMIRs were restored from the cache so far.
+     * @return Total number of them
+     */
+    public int hits() {
+        return this.hits.get();
+    }
+
+    /**
+     * Transpile XMIR into .java files, unless it's already done.
+     *
+     * @param file The path to the .xmir file
+     * @param input The XMIR
+     * @return Java classes by their names, or empty if it's already done
+     * @throws IOException If fails
+     */
+    private Optional<Map<String, byte[]>> javas(final Path file,
+        final XML input) throws IOException {
         final String name = input.xpath("/program/@name").get(0);
         final Place place = new Place(name);
         final Path target = place.make(this.temp, Transpiler.EXT);
-        int total = 0;
+        Optional<Map<String, byte[]>> javas = Optional.empty();
         if (
             target.toFile().exists()
                 && target.toFile().lastModified() >= file.toFile().lastModified()
@@ -82,7 +191,7 @@ final class TranspilerCanonical implements Transpiler {
             new Xsline(
                 input,
                 new OutputTo(target),
-                new TargetSpy(place.make(this.pre, "")),
+                new TargetSpy(place.make(this.pre, ""), this.spy),
                 new ListOf<>(
                     "org/eolang/maven/pre/classes.xsl",
                     "org/eolang/maven/pre/junit.xsl",
@@ -95,31 +204,92 @@ final class TranspilerCanonical implements Transpiler {
             ).pass();
             final XML after = this.noErrors(new XMLDocument(target), name);
             final Collection<XML> nodes = after.nodes("//class[java and not(@atom)]");
-            if (nodes.isEmpty()) {
-                Logger.info(
-                    this, "Transpiled %s but no .java files created",
-                    Save.rel(file)
+            final Map<String, byte[]> classes = new LinkedHashMap<>(nodes.size());
+            for (final XML java : nodes) {
+                classes.put(
+                    java.xpath("@java-name").get(0),
+                    new Joined("", java.xpath("java/text()"))
+                        .asString().getBytes(StandardCharsets.UTF_8)
                 );
-            } else {
-                for (final XML java : nodes) {
-                    new Save(
-                        new Joined(
-                            "",
-                            java.xpath("java/text()")
-                        ),
-                        new Place(java.xpath("@java-name").get(0)).make(
-                            generated, "java"
-                        )
-                    ).save();
-                    ++total;
+            }
+            javas = Optional.of(classes);
+        }
+        return javas;
+    }
+
+    /**
+     * Find .java files in the cache.
+     *
+     * The entry under the key lists Java class names, one per line, each
+     * one followed by the key of its content, which is stored separately.
+     *
+     * @param key The key of the XMIR
+     * @return Java classes by their names, if all of them are there
+     * @throws IOException If fails
+     */
+    private Optional<Map<String, byte[]>> restore(final String key)
+        throws IOException {
+        final Optional<byte[]> index = this.cache.load(key);
+        Optional<Map<String, byte[]>> found = Optional.empty();
+        if (index.isPresent()) {
+            final Map<String, byte[]> javas = new LinkedHashMap<>(0);
+            boolean complete = true;
+            for (final String line
+                : new String(index.get(), StandardCharsets.UTF_8).split("\n")) {
+                if (line.isEmpty()) {
+                    continue;
                 }
-                Logger.info(
-                    this, "Transpiled %s to %s, created %d .java file(s)",
-                    Save.rel(file), Save.rel(generated), nodes.size()
-                );
+                final String[] parts = line.split(" ", 2);
+                final Optional<byte[]> java = this.cache.load(parts[1]);
+                if (!java.isPresent()) {
+                    complete = false;
+                    break;
+                }
+                javas.put(parts[0], java.get());
+            }
+            if (complete) {
+                found = Optional.of(javas);
             }
         }
-        return total;
+        return found;
+    }
+
+    /**
+     * Save .java files to the cache.
+     * @param key The key of the XMIR
+     * @param javas Java classes by their names
+     * @throws IOException If fails
+     */
+    private void store(final String key, final Map<String, byte[]> javas)
+        throws IOException {
+        final StringBuilder index = new StringBuilder(0);
+        for (final Map.Entry<String, byte[]> java : javas.entrySet()) {
+            final String hash = Cache.key(java.getValue());
+            this.cache.save(hash, java.getValue());
+            index.append(java.getKey()).append(' ').append(hash).append('\n');
+        }
+        this.cache.save(key, index.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Save .java files, except those that are already there with exactly
+     * the same content, in order not to touch them and not to make
+     * the Java compiler think they've changed.
+     * @param javas Java classes by their names
+     * @param generated The directory, where .java files to be saved
+     * @return How many .java files are there
+     * @throws IOException If fails
+     */
+    private static int write(final Map<String, byte[]> javas,
+        final Path generated) throws IOException {
+        for (final Map.Entry<String, byte[]> java : javas.entrySet()) {
+            final Path path = new Place(java.getKey()).make(generated, "java");
+            if (!Files.exists(path)
+                || !Arrays.equals(Files.readAllBytes(path), java.getValue())) {
+                new Save(java.getValue(), path).save();
+            }
+        }
+        return javas.size();
     }
 
     /**
@@ -61,7 +61,7 @@ public final class UnplaceMojo extends SafeMojo {
     private File placed;
 
     /**
-     * Format of "placed" file ("json" or "csv").
+     * Format of "placed" file ("json", "csv" or "bin").
      * @checkstyle MemberNameCheck (7 lines)
      * @checkstyle VisibilityModifierCheck (5 lines)
      */
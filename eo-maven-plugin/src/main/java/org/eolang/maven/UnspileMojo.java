@@ -30,15 +30,17 @@ import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.PathMatcher;
+import java.util.Collection;
 import java.util.Set;
+import java.util.stream.Collectors;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.cactoos.set.SetOf;
 
 /**
- * Goes through all .class files and deletes those that
- * were created from autogenerated sources.
+ * Goes through all autogenerated .java sources and deletes .class files
+ * that were compiled from them.
  *
  * @since 0.1
  * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
@@ -79,13 +81,29 @@ public final class UnspileMojo extends SafeMojo {
 
     @Override
     public void exec() throws IOException {
-        new Walk(this.classesDir.toPath()).stream()
-            .filter(
-                file -> this.includes.stream().anyMatch(
-                    glob -> UnspileMojo.matcher(glob).matches(file)
-                )
-            )
-            .forEach(this::delete);
+        final Collection<PathMatcher> matchers = this.includes.stream()
+            .map(UnspileMojo::matcher)
+            .collect(Collectors.toList());
+        final Path home = this.generatedDir.toPath();
+        int deleted = 0;
+        for (final Path java : new Walk(home).includes(new SetOf<>("**.java"))) {
+            final String name = home.relativize(java).toString();
+            final Path file = this.classesDir.toPath().resolve(
+                name.replaceAll("\\.java$", ".class")
+            );
+            if (matchers.stream().anyMatch(m -> m.matches(file))
+                && Files.deleteIfExists(file)) {
+                Logger.debug(
+                    this, "Deleted %s since %s is present",
+                    Save.rel(file), Save.rel(java)
+                );
+                ++deleted;
+            }
+        }
+        Logger.info(
+            this, "Deleted %d .class file(s) in %s, which have .java in %s",
+            deleted, Save.rel(this.classesDir.toPath()), Save.rel(home)
+        );
     }
 
     /**
@@ -98,28 +116,4 @@ public final class UnspileMojo extends SafeMojo {
             .getPathMatcher(String.format("glob:%s", text));
     }
 
-    /**
-     * Delete .class file if .java file is present.
-     * @param file EO file
-     */
-    private void delete(final Path file) {
-        final String name = file.toString().substring(
-            this.classesDir.toString().length() + 1
-        );
-        final Path java = this.generatedDir.toPath().resolve(
-            name.replaceAll("\\.class$", ".java")
-        );
-        if (Files.exists(java)) {
-            try {
-                Files.delete(file);
-            } catch (final IOException ex) {
-                throw new IllegalStateException(ex);
-            }
-            Logger.info(
-                this, "Deleted %s since %s is present",
-                Save.rel(file), Save.rel(java)
-            );
-        }
-    }
-
 }
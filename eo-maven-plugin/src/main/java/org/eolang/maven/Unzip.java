@@ -0,0 +1,144 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2021 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.maven;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Unpack a JAR file into a directory.
+ *
+ * <p>The archive is read as a stream, entry by entry, and everything
+ * except directories and signatures of the JAR (".SF", ".RSA", and ".DSA"
+ * files in "META-INF/") is written into a temporary directory, which then replaces the target one. Thus, the target
+ * directory either has all files of the archive or doesn't exist.</p>
+ *
+ * @since 0.22
+ */
+final class Unzip {
+
+    /**
+     * Signature files of a JAR.
+     */
+    private static final Pattern SIGNATURE = Pattern.compile(
+        "META-INF/[^/]+\\.(?:SF|RSA|DSA)"
+    );
+
+    /**
+     * The archive.
+     */
+    private final Path zip;
+
+    /**
+     * Ctor.
+     * @param file The archive
+     */
+    Unzip(final Path file) {
+        this.zip = file;
+    }
+
+    /**
+     * Unpack into the directory.
+     * @param dir The directory
+     * @return How many files were unpacked
+     * @throws IOException If fails
+     */
+    public int into(final Path dir) throws IOException {
+        final Path parent = dir.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        final Path temp = Files.createTempDirectory(
+            parent, String.format("%s.", dir.getFileName())
+        );
+        int total = 0;
+        try {
+            try (ZipInputStream zin = new ZipInputStream(
+                new BufferedInputStream(Files.newInputStream(this.zip))
+            )) {
+                while (true) {
+                    final ZipEntry entry = zin.getNextEntry();
+                    if (entry == null) {
+                        break;
+                    }
+                    if (entry.isDirectory()
+                        || Unzip.SIGNATURE.matcher(entry.getName()).matches()) {
+                        continue;
+                    }
+                    Unzip.save(zin, Unzip.target(temp, entry.getName()));
+                    ++total;
+                }
+            }
+            Files.move(temp, dir, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            if (Files.exists(temp)) {
+                try (Stream<Path> files = Files.walk(temp)) {
+                    for (final Path file : files.sorted(Comparator.reverseOrder())
+                        .collect(Collectors.toList())) {
+                        Files.delete(file);
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Where to save the entry.
+     * @param dir The directory
+     * @param name The name of the entry
+     * @return The path
+     * @throws IOException If the entry is outside of the directory
+     */
+    private static Path target(final Path dir, final String name) throws IOException {
+        final Path target = dir.resolve(name).normalize();
+        if (!target.startsWith(dir)) {
+            throw new IOException(
+                String.format("The entry '%s' is outside of the archive", name)
+            );
+        }
+        return target;
+    }
+
+    /**
+     * Save the content of the stream into the file.
+     * @param input The stream, which is not closed
+     * @param file The file
+     * @throws IOException If fails
+     */
+    private static void save(final InputStream input, final Path file)
+        throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.copy(input, file);
+    }
+
+}
@@ -23,20 +23,33 @@
  */
 package org.eolang.maven;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.nio.file.PathMatcher;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.AbstractList;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 import org.cactoos.list.ListEnvelope;
 
 /**
  * Walk through files in a directory.
  *
+ * <p>The directory is not read until the list is used for the first time,
+ * so that all {@link #includes(Collection)} and {@link #excludes(Collection)}
+ * are applied during one traversal, and the result is kept. The globs
+ * are compiled only once. A directory, which can't contain any file
+ * matching the includes, is not entered at all: for example,
+ * with "org/eolang/**" nothing is read outside of "org/eolang".</p>
+ *
  * @since 0.1
  */
 final class Walk extends ListEnvelope<Path> {
@@ -46,6 +59,17 @@ final class Walk extends ListEnvelope<Path> {
      */
     private final Path home;
 
+    /**
+     * Groups of include globs: a file must match at least one glob
+     * in every group.
+     */
+    private final List<Collection<String>> incl;
+
+    /**
+     * Groups of exclude globs: a file must not match any of them.
+     */
+    private final List<Collection<String>> excl;
+
     /**
      * Ctor.
      *
@@ -53,18 +77,22 @@ final class Walk extends ListEnvelope<Path> {
      * @throws IOException If fails
      */
     Walk(final Path dir) throws IOException {
-        this(dir, Walk.list(dir));
+        this(dir, Collections.emptyList(), Collections.emptyList());
     }
 
     /**
      * Ctor.
      *
      * @param dir The directory
-     * @param list The list
+     * @param inc Groups of include globs
+     * @param exc Groups of exclude globs
      */
-    private Walk(final Path dir, final List<Path> list) {
-        super(list);
+    private Walk(final Path dir, final List<Collection<String>> inc,
+        final List<Collection<String>> exc) {
+        super(new Walk.Lazy(dir, inc, exc));
         this.home = dir;
+        this.incl = inc;
+        this.excl = exc;
     }
 
     /**
@@ -73,16 +101,9 @@ final class Walk extends ListEnvelope<Path> {
      * @return New Walk
      */
     Walk includes(final Collection<String> globs) {
-        return new Walk(
-            this.home,
-            this.stream()
-                .filter(
-                    file -> globs.stream().anyMatch(
-                        glob -> this.matches(glob, file)
-                    )
-                )
-                .collect(Collectors.toList())
-        );
+        final List<Collection<String>> more = new ArrayList<>(this.incl);
+        more.add(globs);
+        return new Walk(this.home, more, this.excl);
     }
 
     /**
@@ -91,51 +112,211 @@ final class Walk extends ListEnvelope<Path> {
      * @return New Walk
      */
     Walk excludes(final Collection<String> globs) {
-        return new Walk(
-            this.home,
-            this.stream()
-                .filter(
-                    file -> globs.stream().noneMatch(
-                        glob -> this.matches(glob, file)
-                    )
-                )
-                .collect(Collectors.toList())
-        );
+        final List<Collection<String>> more = new ArrayList<>(this.excl);
+        more.add(globs);
+        return new Walk(this.home, this.incl, more);
     }
 
     /**
-     * List them all.
-     * @param dir The dir
-     * @return List
-     * @throws IOException If fails
+     * The list of files, found on first use.
+     *
+     * @since 0.22
      */
-    private static List<Path> list(final Path dir) throws IOException {
-        final List<Path> files = new LinkedList<>();
-        if (Files.exists(dir)) {
-            files.addAll(
-                Files.walk(dir)
-                    .filter(file -> !file.toFile().isDirectory())
-                    .collect(Collectors.toList())
+    private static final class Lazy extends AbstractList<Path> {
+
+        /**
+         * The home.
+         */
+        private final Path home;
+
+        /**
+         * Groups of include globs.
+         */
+        private final List<Collection<String>> incl;
+
+        /**
+         * Groups of exclude globs.
+         */
+        private final List<Collection<String>> excl;
+
+        /**
+         * The files, or NULL if not yet found.
+         */
+        private List<Path> files;
+
+        /**
+         * Ctor.
+         * @param dir The directory
+         * @param inc Groups of include globs
+         * @param exc Groups of exclude globs
+         */
+        Lazy(final Path dir, final List<Collection<String>> inc,
+            final List<Collection<String>> exc) {
+            super();
+            this.home = dir;
+            this.incl = inc;
+            this.excl = exc;
+        }
+
+        @Override
+        public Path get(final int index) {
+            return this.files().get(index);
+        }
+
+        @Override
+        public int size() {
+            return this.files().size();
+        }
+
+        /**
+         * Find the files, if not yet.
+         * @return The files
+         */
+        private synchronized List<Path> files() {
+            if (this.files == null) {
+                try {
+                    this.files = this.list();
+                } catch (final IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            }
+            return this.files;
+        }
+
+        /**
+         * Walk the directory.
+         * @return The files found
+         * @throws IOException If fails
+         */
+        private List<Path> list() throws IOException {
+            final List<Path> found = new ArrayList<>(0);
+            if (Files.exists(this.home)) {
+                final List<List<PathMatcher>> includes =
+                    Walk.Lazy.matchers(this.incl);
+                final List<List<PathMatcher>> excludes =
+                    Walk.Lazy.matchers(this.excl);
+                final List<List<String>> prefixes = Walk.Lazy.prefixes(this.incl);
+                Files.walkFileTree(
+                    this.home,
+                    new SimpleFileVisitor<Path>() {
+                        @Override
+                        public FileVisitResult preVisitDirectory(final Path dir,
+                            final BasicFileAttributes attrs) {
+                            final FileVisitResult result;
+                            if (dir.equals(Walk.Lazy.this.home)
+                                || Walk.Lazy.enter(Walk.Lazy.this.rel(dir), prefixes)) {
+                                result = FileVisitResult.CONTINUE;
+                            } else {
+                                result = FileVisitResult.SKIP_SUBTREE;
+                            }
+                            return result;
+                        }
+
+                        @Override
+                        public FileVisitResult visitFile(final Path file,
+                            final BasicFileAttributes attrs) {
+                            if (!attrs.isDirectory()) {
+                                final Path rel = Walk.Lazy.this.home.relativize(file);
+                                if (includes.stream().allMatch(
+                                    group -> group.stream().anyMatch(m -> m.matches(rel))
+                                ) && excludes.stream().noneMatch(
+                                    group -> group.stream().anyMatch(m -> m.matches(rel))
+                                )) {
+                                    found.add(file);
+                                }
+                            }
+                            return FileVisitResult.CONTINUE;
+                        }
+                    }
+                );
+            }
+            return found;
+        }
+
+        /**
+         * Relative name of the directory, with a trailing slash.
+         * @param dir The directory
+         * @return The name, like "org/eolang/"
+         */
+        private String rel(final Path dir) {
+            return String.format(
+                "%s/",
+                this.home.relativize(dir).toString().replace(File.separatorChar, '/')
             );
         }
-        return files;
-    }
 
-    /**
-     * Create glob matcher from text.
-     * @param text The pattern, e.g. "**&#47;*.java"
-     * @param file The file to match
-     * @return Matcher
-     */
-    private boolean matches(final String text, final Path file) {
-        final Path rel = Paths.get(
-            file.toAbsolutePath().toString().substring(
-                this.home.toAbsolutePath().toString().length() + 1
-            )
-        );
-        return FileSystems.getDefault().getPathMatcher(
-            String.format("glob:%s", text)
-        ).matches(rel);
+        /**
+         * Can this directory contain a file, which matches all groups
+         * of globs?
+         * @param dir Relative name of the directory, like "org/eolang/"
+         * @param prefixes Literal prefixes of globs, by groups
+         * @return TRUE if it has to be entered
+         */
+        private static boolean enter(final String dir, final List<List<String>> prefixes) {
+            return prefixes.stream().allMatch(
+                group -> group.stream().anyMatch(
+                    prefix -> Walk.Lazy.starts(dir, prefix)
+                        || Walk.Lazy.starts(prefix, dir)
+                )
+            );
+        }
+
+        /**
+         * Does the text start with the prefix? Case is ignored on
+         * file systems, where globs ignore it.
+         * @param text The text
+         * @param prefix The prefix
+         * @return TRUE if it does
+         */
+        private static boolean starts(final String text, final String prefix) {
+            return text.regionMatches(
+                File.separatorChar == '\\', 0, prefix, 0, prefix.length()
+            );
+        }
+
+        /**
+         * Compile globs.
+         * @param groups Groups of globs
+         * @return Groups of matchers
+         */
+        private static List<List<PathMatcher>> matchers(
+            final List<Collection<String>> groups) {
+            final List<List<PathMatcher>> all = new ArrayList<>(groups.size());
+            for (final Collection<String> group : groups) {
+                final List<PathMatcher> matchers = new ArrayList<>(group.size());
+                for (final String glob : group) {
+                    matchers.add(
+                        FileSystems.getDefault().getPathMatcher(
+                            String.format("glob:%s", glob)
+                        )
+                    );
+                }
+                all.add(matchers);
+            }
+            return all;
+        }
+
+        /**
+         * Literal prefixes of globs, before the first special character.
+         * @param groups Groups of globs
+         * @return Groups of prefixes
+         */
+        private static List<List<String>> prefixes(final List<Collection<String>> groups) {
+            final List<List<String>> all = new ArrayList<>(groups.size());
+            for (final Collection<String> group : groups) {
+                final List<String> prefixes = new ArrayList<>(group.size());
+                for (final String glob : group) {
+                    int pos = 0;
+                    while (pos < glob.length()
+                        && "*?[{\\".indexOf(glob.charAt(pos)) < 0) {
+                        ++pos;
+                    }
+                    prefixes.add(glob.substring(0, pos));
+                }
+                all.add(prefixes);
+            }
+            return all;
+        }
     }
 
 }
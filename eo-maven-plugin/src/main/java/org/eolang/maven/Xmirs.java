@@ -0,0 +1,179 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2021 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.maven;
+
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * XMIR documents, parsed once and shared among all mojos of a build.
+ *
+ * <p>Documents are kept by their absolute paths, together with the
+ * modification time and the size of the file. If the file is modified,
+ * it is parsed again. The least recently used documents go away when
+ * their total size on disk gets bigger than 1/32 of the maximum heap:
+ * a DOM tree takes a few times more memory than its XML.</p>
+ *
+ * <p>The same document must not be read by many threads at the same time,
+ * since DOM is not thread-safe. Mojos don't do that: each XMIR is
+ * processed by one task only.</p>
+ *
+ * @since 0.22
+ */
+final class Xmirs {
+
+    /**
+     * Maximum total size of files, whose documents are kept.
+     */
+    private static final long BUDGET = Runtime.getRuntime().maxMemory() / 32L;
+
+    /**
+     * Documents by paths, least recently used first.
+     */
+    private static final Map<Path, Xmirs.Doc> DOCS = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Total size of files, whose documents are kept.
+     */
+    private static long used;
+
+    /**
+     * Ctor.
+     */
+    private Xmirs() {
+        // utility class
+    }
+
+    /**
+     * Load the document, parsing it only if it's not yet in memory or the
+     * file was modified.
+     * @param file The XMIR file
+     * @return The document
+     * @throws IOException If fails
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static XML load(final Path file) throws IOException {
+        final Path path = file.toAbsolutePath().normalize();
+        final Xmirs.Doc doc = new Xmirs.Doc(path, null);
+        XML xml = null;
+        synchronized (Xmirs.DOCS) {
+            final Xmirs.Doc kept = Xmirs.DOCS.get(path);
+            if (kept != null && kept.same(doc)) {
+                xml = kept.xml;
+            }
+        }
+        if (xml == null) {
+            xml = new XMLDocument(Files.readAllBytes(path));
+            Xmirs.keep(path, new Xmirs.Doc(path, xml));
+        }
+        return xml;
+    }
+
+    /**
+     * Remember the document, just saved to the file.
+     * @param file The XMIR file
+     * @param xml The document, which is in the file
+     * @throws IOException If fails
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static void saved(final Path file, final XML xml) throws IOException {
+        final Path path = file.toAbsolutePath().normalize();
+        Xmirs.keep(path, new Xmirs.Doc(path, xml));
+    }
+
+    /**
+     * Keep the document and forget the oldest ones, if the budget is over.
+     * @param path The absolute path of the file
+     * @param doc The document
+     */
+    private static void keep(final Path path, final Xmirs.Doc doc) {
+        synchronized (Xmirs.DOCS) {
+            final Xmirs.Doc before = Xmirs.DOCS.put(path, doc);
+            if (before != null) {
+                Xmirs.used -= before.size;
+            }
+            Xmirs.used += doc.size;
+            final Iterator<Xmirs.Doc> docs = Xmirs.DOCS.values().iterator();
+            while (Xmirs.used > Xmirs.BUDGET && Xmirs.DOCS.size() > 1) {
+                Xmirs.used -= docs.next().size;
+                docs.remove();
+            }
+        }
+    }
+
+    /**
+     * The document in memory.
+     *
+     * @since 0.22
+     */
+    private static final class Doc {
+
+        /**
+         * Modification time of the file.
+         */
+        private final long time;
+
+        /**
+         * The size of the file.
+         */
+        private final long size;
+
+        /**
+         * The document.
+         */
+        private final XML xml;
+
+        /**
+         * Ctor.
+         * @param path The file
+         * @param doc The document
+         * @throws IOException If fails
+         */
+        Doc(final Path path, final XML doc) throws IOException {
+            final BasicFileAttributes attrs = Files.readAttributes(
+                path, BasicFileAttributes.class
+            );
+            this.time = attrs.lastModifiedTime().toMillis();
+            this.size = attrs.size();
+            this.xml = doc;
+        }
+
+        /**
+         * Is it the same file, not modified?
+         * @param doc Another document
+         * @return TRUE if the same
+         */
+        boolean same(final Xmirs.Doc doc) {
+            return this.time == doc.time && this.size == doc.size;
+        }
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2021 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.maven;
+
+import com.yegor256.tojos.Csv;
+import com.yegor256.tojos.MonoTojos;
+import com.yegor256.tojos.Tojos;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link Bin}.
+ *
+ * @since 0.22
+ */
+public final class BinTest {
+
+    @Test
+    public void writesAndReadsBack(@TempDir final Path temp) {
+        final Path bin = temp.resolve("foo/eo-foreign.bin");
+        final Tojos tojos = new MonoTojos(new Bin(bin));
+        tojos.add("org.eolang.foo").set("eo", "foo.eo").set("scope", "compile");
+        tojos.add("org.eolang.bar").set("eo", "бар.eo").set("scope", "compile");
+        tojos.add("org.eolang.foo").set("xmir", "foo.xmir");
+        final Tojos saved = new MonoTojos(new Bin(bin));
+        MatcherAssert.assertThat(
+            saved.select(t -> "compile".equals(t.get("scope"))),
+            Matchers.hasSize(2)
+        );
+        MatcherAssert.assertThat(
+            saved.select(t -> "org.eolang.foo".equals(t.get("id")))
+                .get(0).get("xmir"),
+            Matchers.equalTo("foo.xmir")
+        );
+        MatcherAssert.assertThat(
+            saved.select(t -> "org.eolang.bar".equals(t.get("id")))
+                .get(0).get("eo"),
+            Matchers.equalTo("бар.eo")
+        );
+    }
+
+    @Test
+    public void appendsOnlyChangedRows(@TempDir final Path temp)
+        throws Exception {
+        final Path bin = temp.resolve("eo-placed.bin");
+        final IndexedTojos tojos = new Catalog(bin, "bin").make();
+        for (int idx = 0; idx < 50; ++idx) {
+            tojos.add(String.format("obj%d", idx))
+                .set("version", "0.1.0")
+                .set("scope", "compile");
+        }
+        tojos.flush();
+        final long before = Files.size(bin);
+        tojos.add("obj7").set("version", "0.2.0");
+        tojos.flush();
+        final long after = Files.size(bin);
+        MatcherAssert.assertThat(after, Matchers.greaterThan(before));
+        MatcherAssert.assertThat(
+            after - before,
+            Matchers.lessThan(before / 20)
+        );
+        MatcherAssert.assertThat(
+            new Catalog(bin, "bin").make()
+                .select(t -> "0.2.0".equals(t.get("version"))),
+            Matchers.hasSize(1)
+        );
+    }
+
+    @Test
+    public void migratesFromCsv(@TempDir final Path temp) throws Exception {
+        final Path file = temp.resolve("eo-foreign.csv");
+        new MonoTojos(new Csv(file)).add("org.eolang.io.stdout").set("eo", "x.eo");
+        final IndexedTojos tojos = new Catalog(file, "bin").make();
+        tojos.add("org.eolang.io.stdin").set("eo", "y.eo");
+        tojos.flush();
+        MatcherAssert.assertThat(
+            new String(Files.readAllBytes(file), "UTF-8"),
+            Matchers.startsWith("EOTOJOS")
+        );
+        MatcherAssert.assertThat(
+            new Catalog(file, "bin").make().select(t -> t.exists("eo")),
+            Matchers.hasSize(2)
+        );
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2021 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.maven;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link Bundle}.
+ *
+ * @since 0.22
+ */
+public final class BundleTest {
+
+    @Test
+    public void packsAndFindsObjects(@TempDir final Path temp) throws Exception {
+        final Path objects = temp.resolve("objects");
+        new Save("[] > stdout\n", objects.resolve("org/eolang/io/stdout.eo")).save();
+        new Save("[] > сумма\n", objects.resolve("org/eolang/sum.eo")).save();
+        new Save("# not an object\n", objects.resolve("README.md")).save();
+        final Bundle bundle = new Bundle(temp.resolve("target/objectionary.eob"));
+        MatcherAssert.assertThat(bundle.pack(objects), Matchers.equalTo(2));
+        MatcherAssert.assertThat(
+            new String(
+                bundle.load("org.eolang.sum").get(), StandardCharsets.UTF_8
+            ),
+            Matchers.equalTo("[] > сумма\n")
+        );
+        MatcherAssert.assertThat(
+            new String(
+                bundle.load("org.eolang.io.stdout").get(), StandardCharsets.UTF_8
+            ),
+            Matchers.equalTo("[] > stdout\n")
+        );
+        MatcherAssert.assertThat(
+            bundle.load("org.eolang.io.stdin").isPresent(),
+            Matchers.is(false)
+        );
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2021 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.maven;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.cactoos.io.InputOf;
+import org.cactoos.text.TextOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link CachedObjectionary}.
+ *
+ * @since 0.22
+ */
+public final class CachedObjectionaryTest {
+
+    @Test
+    public void pullsOnlyOnce(@TempDir final Path temp) throws Exception {
+        new Save(
+            "[] > stdout\n",
+            temp.resolve("remote/abc/org/eolang/io/stdout.eo")
+        ).save();
+        final Objectionary remote = new RemoteObjectionary(
+            String.format("%s/%%s/%%s.eo", temp.resolve("remote").toUri()),
+            "abc"
+        );
+        final AtomicInteger pulls = new AtomicInteger();
+        final Objectionary objs = new CachedObjectionary(
+            name -> {
+                pulls.incrementAndGet();
+                return remote.get(name);
+            },
+            new Cache(temp.resolve("cache")),
+            "abc",
+            Long.MAX_VALUE
+        );
+        for (int idx = 0; idx < 3; ++idx) {
+            MatcherAssert.assertThat(
+                new TextOf(objs.get("org.eolang.io.stdout")).asString(),
+                Matchers.equalTo("[] > stdout\n")
+            );
+        }
+        MatcherAssert.assertThat(pulls.get(), Matchers.equalTo(1));
+        try (Stream<Path> files = Files.walk(temp.resolve("cache"))) {
+            MatcherAssert.assertThat(
+                files.filter(Files::isRegularFile).count(),
+                Matchers.equalTo(1L)
+            );
+        }
+    }
+
+    @Test
+    public void pullsAgainWhenExpiredInMemory(@TempDir final Path temp)
+        throws Exception {
+        final AtomicInteger pulls = new AtomicInteger();
+        final Objectionary remote = name -> {
+            pulls.incrementAndGet();
+            return new InputOf("[] > random\n");
+        };
+        final Cache cache = new Cache(temp.resolve("cache"));
+        new CachedObjectionary(remote, cache, "master", Long.MAX_VALUE)
+            .get("org.eolang.math.random");
+        new CachedObjectionary(remote, cache, "master", -1L)
+            .get("org.eolang.math.random");
+        MatcherAssert.assertThat(pulls.get(), Matchers.equalTo(2));
+    }
+
+}
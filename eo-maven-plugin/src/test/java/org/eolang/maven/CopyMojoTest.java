@@ -51,6 +51,7 @@ public final class CopyMojoTest {
         new Moja<>(CopyMojo.class)
             .with("sourcesDir", src.toFile())
             .with("outputDir", classes.toFile())
+            .with("targetDir", temp.resolve("target").toFile())
             .with("version", ver)
             .execute();
         final Path out = classes.resolve("EO-SOURCES/foo/main.eo");
@@ -68,4 +69,37 @@ public final class CopyMojoTest {
         );
     }
 
+    @Test
+    public void skipsUnchangedSources(@TempDir final Path temp) throws Exception {
+        final Path src = temp.resolve("src");
+        final Path classes = temp.resolve("classes");
+        final Path source = src.resolve("foo/main.eo");
+        new Save("+rt foo:0.0.0\n\n[] > main\n", source).save();
+        final Path out = classes.resolve("EO-SOURCES/foo/main.eo");
+        for (int idx = 0; idx < 3; ++idx) {
+            if (idx == 1) {
+                new Save("changed", out).save();
+            }
+            if (idx == 2) {
+                new Save("+rt foo:0.0.0\n\n[] > main2\n", source).save();
+            }
+            new Moja<>(CopyMojo.class)
+                .with("sourcesDir", src.toFile())
+                .with("outputDir", classes.toFile())
+                .with("targetDir", temp.resolve("target").toFile())
+                .with("version", "1.2.3")
+                .execute();
+            if (idx == 1) {
+                MatcherAssert.assertThat(
+                    new String(Files.readAllBytes(out), StandardCharsets.UTF_8),
+                    Matchers.equalTo("changed")
+                );
+            }
+        }
+        MatcherAssert.assertThat(
+            new String(Files.readAllBytes(out), StandardCharsets.UTF_8),
+            Matchers.equalTo("+rt foo:1.2.3\n\n[] > main2\n")
+        );
+    }
+
 }
@@ -0,0 +1,98 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2021 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.maven;
+
+import com.yegor256.tojos.Csv;
+import com.yegor256.tojos.MonoTojos;
+import com.yegor256.tojos.Tojos;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link IndexedTojos}.
+ *
+ * @since 0.22
+ */
+public final class IndexedTojosTest {
+
+    @Test
+    public void writesOnlyWhenFlushed(@TempDir final Path temp) {
+        final Path csv = temp.resolve("foo/eo-foreign.csv");
+        final IndexedTojos tojos = new Catalog(csv, "csv").make();
+        tojos.add("org.eolang.foo").set("eo", "foo.eo");
+        tojos.add("org.eolang.bar").set("eo", "bar.eo").set("version", "1.0");
+        tojos.add("org.eolang.foo").set("xmir", "foo.xmir");
+        MatcherAssert.assertThat(Files.exists(csv), Matchers.is(false));
+        MatcherAssert.assertThat(
+            tojos.select(t -> t.exists("version")),
+            Matchers.hasSize(1)
+        );
+        tojos.flush();
+        final Tojos saved = new MonoTojos(new Csv(csv));
+        MatcherAssert.assertThat(
+            saved.select(t -> true),
+            Matchers.hasSize(2)
+        );
+        MatcherAssert.assertThat(
+            saved.select(t -> "org.eolang.foo".equals(t.get("id")))
+                .get(0).get("xmir"),
+            Matchers.equalTo("foo.xmir")
+        );
+    }
+
+    @Test
+    public void readsOnceAndWorksInManyThreads(@TempDir final Path temp)
+        throws Exception {
+        final Path csv = temp.resolve("eo-foreign.csv");
+        new MonoTojos(new Csv(csv)).add("first").set("scope", "compile");
+        final IndexedTojos tojos = new Catalog(csv, "csv").make();
+        final int total = 100;
+        final Collection<Callable<Object>> tasks = new ArrayList<>(total);
+        for (int idx = 0; idx < total; ++idx) {
+            final String name = String.format("obj%d", idx);
+            tasks.add(() -> tojos.add(name).set("version", "*.*.*"));
+        }
+        final ExecutorService service = Executors.newFixedThreadPool(8);
+        try {
+            service.invokeAll(tasks);
+        } finally {
+            service.shutdown();
+        }
+        tojos.flush();
+        MatcherAssert.assertThat(
+            new MonoTojos(new Csv(csv)).select(t -> true),
+            Matchers.hasSize(total + 1)
+        );
+    }
+
+}
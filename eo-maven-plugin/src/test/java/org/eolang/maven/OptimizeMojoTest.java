@@ -121,6 +121,45 @@ public final class OptimizeMojoTest {
         );
     }
 
+    @Test
+    public void savesNoStepsWhenSpyIsOff(@TempDir final Path temp)
+        throws Exception {
+        final Path src = temp.resolve("foo/main.eo");
+        new Save(
+            "+package f\n\n[args] > main\n  (stdout \"Hello!\").print > @\n",
+            src
+        ).save();
+        final Path target = temp.resolve("target");
+        final Path foreign = temp.resolve("eo-foreign.json");
+        new MonoTojos(new Csv(foreign))
+            .add("foo.main")
+            .set(AssembleMojo.ATTR_SCOPE, "compile")
+            .set(AssembleMojo.ATTR_EO, src.toString());
+        new Moja<>(ParseMojo.class)
+            .with("targetDir", target.toFile())
+            .with("foreign", foreign.toFile())
+            .with("foreignFormat", "csv")
+            .execute();
+        new Moja<>(OptimizeMojo.class)
+            .with("targetDir", target.toFile())
+            .with("foreign", foreign.toFile())
+            .with("foreignFormat", "csv")
+            .with("spy", "off")
+            .execute();
+        MatcherAssert.assertThat(
+            Files.exists(target.resolve(OptimizeMojo.STEPS)),
+            Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            Files.exists(
+                target.resolve(
+                    String.format("%s/foo/main.%s", OptimizeMojo.DIR, Transpiler.EXT)
+                )
+            ),
+            Matchers.is(true)
+        );
+    }
+
     @Test
     public void testSimpleOptimize(@TempDir final Path temp) throws Exception {
         final Path src = temp.resolve("foo/main.eo");
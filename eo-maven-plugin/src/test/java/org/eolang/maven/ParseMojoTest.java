@@ -23,11 +23,15 @@
  */
 package org.eolang.maven;
 
+import com.jcabi.xml.XMLDocument;
 import com.yegor256.tojos.Csv;
 import com.yegor256.tojos.MonoTojos;
 import com.yegor256.tojos.SmartTojos;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Assertions;
@@ -77,6 +81,132 @@ public final class ParseMojoTest {
         );
     }
 
+    @Test
+    public void takesParsedXmirFromCache(@TempDir final Path temp)
+        throws Exception {
+        final Path src = temp.resolve("foo/x/main.eo");
+        new Save(
+            "+package f\n\n[args] > main\n  (stdout \"Hello!\").print\n",
+            src
+        ).save();
+        final Path cache = temp.resolve("cache");
+        final Collection<String> times = new ArrayList<>(2);
+        for (int idx = 0; idx < 2; ++idx) {
+            final Path target = temp.resolve(String.format("target-%d", idx));
+            final Path foreign = temp.resolve(String.format("eo-foreign-%d.csv", idx));
+            new MonoTojos(new Csv(foreign))
+                .add("foo.x.main")
+                .set(AssembleMojo.ATTR_SCOPE, "compile")
+                .set(AssembleMojo.ATTR_EO, src.toString());
+            new Moja<>(ParseMojo.class)
+                .with("targetDir", target.toFile())
+                .with("foreign", foreign.toFile())
+                .with("foreignFormat", "csv")
+                .with("cache", cache.toFile())
+                .execute();
+            times.addAll(
+                new XMLDocument(
+                    target.resolve(
+                        String.format("%s/foo/x/main.%s", ParseMojo.DIR, Transpiler.EXT)
+                    )
+                ).xpath("/program/@time")
+            );
+        }
+        MatcherAssert.assertThat(
+            new HashSet<>(times),
+            Matchers.hasSize(1)
+        );
+        MatcherAssert.assertThat(
+            new Walk(cache.resolve(ParseMojo.CACHE)).size(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    public void parsesInManyThreads(@TempDir final Path temp) throws Exception {
+        final Path foreign = temp.resolve("eo-foreign.csv");
+        final int total = 20;
+        for (int idx = 0; idx < total; ++idx) {
+            final Path src = temp.resolve(String.format("foo/x/main%d.eo", idx));
+            new Save(
+                "+package f\n\n[args] > main\n  (stdout \"Hello!\").print\n",
+                src
+            ).save();
+            new MonoTojos(new Csv(foreign))
+                .add(String.format("foo.x.main%d", idx))
+                .set(AssembleMojo.ATTR_SCOPE, "compile")
+                .set(AssembleMojo.ATTR_EO, src.toString());
+        }
+        new Moja<>(ParseMojo.class)
+            .with("targetDir", temp.resolve("target").toFile())
+            .with("foreign", foreign.toFile())
+            .with("foreignFormat", "csv")
+            .with("threads", 4)
+            .execute();
+        MatcherAssert.assertThat(
+            new MonoTojos(new Csv(foreign)).select(
+                row -> row.exists(AssembleMojo.ATTR_XMIR)
+            ),
+            Matchers.hasSize(total)
+        );
+    }
+
+    @Test
+    public void reportsFirstFailureInCatalogOrder(@TempDir final Path temp)
+        throws Exception {
+        final Path foreign = temp.resolve("eo-foreign.csv");
+        for (int idx = 0; idx < 10; ++idx) {
+            final Path src = temp.resolve(String.format("bar/src%d.eo", idx));
+            new Save(
+                String.format("broken %d < is wrong here", idx),
+                src
+            ).save();
+            new MonoTojos(new Csv(foreign))
+                .add(String.format("bar.src%d", idx))
+                .set(AssembleMojo.ATTR_SCOPE, "compile")
+                .set(AssembleMojo.ATTR_EO, src.toString());
+        }
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> new Moja<>(ParseMojo.class)
+                    .with("targetDir", temp.resolve("target").toFile())
+                    .with("foreign", foreign.toFile())
+                    .with("foreignFormat", "csv")
+                    .with("threads", 4)
+                    .execute()
+            ).getMessage(),
+            Matchers.endsWith("src0.eo")
+        );
+    }
+
+    @Test
+    public void parsesWithoutValidation(@TempDir final Path temp)
+        throws Exception {
+        final Path src = temp.resolve("foo/x/main.eo");
+        new Save("[args] > main\n  true > @\n", src).save();
+        final Path foreign = temp.resolve("eo-foreign.csv");
+        new MonoTojos(new Csv(foreign))
+            .add("foo.x.main")
+            .set(AssembleMojo.ATTR_SCOPE, "compile")
+            .set(AssembleMojo.ATTR_EO, src.toString());
+        final Path target = temp.resolve("target");
+        new Moja<>(ParseMojo.class)
+            .with("targetDir", target.toFile())
+            .with("foreign", foreign.toFile())
+            .with("foreignFormat", "csv")
+            .with("validate", false)
+            .execute();
+        MatcherAssert.assertThat(
+            Files.exists(
+                target.resolve(
+                    String.format("%s/foo/x/main.%s", ParseMojo.DIR, Transpiler.EXT)
+                )
+            ),
+            Matchers.is(true)
+        );
+    }
+
     @Test
     public void testCrashOnInvalidSyntax(@TempDir final Path temp)
         throws Exception {
@@ -23,8 +23,13 @@
  */
 package org.eolang.maven;
 
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.cactoos.set.SetOf;
+import org.cactoos.text.TextOf;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
@@ -64,4 +69,71 @@ public final class PlaceMojoTest {
         );
     }
 
+    @Test
+    public void placesLinksOnlyOnce(@TempDir final Path temp) throws Exception {
+        final Path bins = temp.resolve(ResolveMojo.DIR);
+        final Path classes = temp.resolve("classes");
+        new Save("x1", bins.resolve("foo/hello/0.1/EObar/x.bin")).save();
+        for (int idx = 0; idx < 2; ++idx) {
+            new Moja<>(PlaceMojo.class)
+                .with("targetDir", temp.toFile())
+                .with("outputDir", classes.toFile())
+                .with("placed", temp.resolve("placed.json").toFile())
+                .with("placeLinks", true)
+                .execute();
+        }
+        MatcherAssert.assertThat(
+            new TextOf(classes.resolve("EObar/x.bin")).asString(),
+            Matchers.equalTo("x1")
+        );
+        MatcherAssert.assertThat(
+            new Catalog(temp.resolve("placed.json"), "csv").make()
+                .select(t -> true),
+            Matchers.hasSize(1)
+        );
+    }
+
+    @Test
+    public void keepsStampOfPlacedBinary(@TempDir final Path temp) throws Exception {
+        final Path bin = temp.resolve(ResolveMojo.DIR).resolve("foo/hello/0.1/EObar/y.bin");
+        new Save("y123", bin).save();
+        new Moja<>(PlaceMojo.class)
+            .with("targetDir", temp.toFile())
+            .with("outputDir", temp.resolve("classes").toFile())
+            .with("placed", temp.resolve("placed.csv").toFile())
+            .execute();
+        MatcherAssert.assertThat(
+            new Catalog(temp.resolve("placed.csv"), "csv").make()
+                .select(t -> true).get(0).get("stamp"),
+            Matchers.equalTo(
+                String.format(
+                    "%d/4", Files.getLastModifiedTime(bin).toMillis()
+                )
+            )
+        );
+    }
+
+    @Test
+    public void placesUnpackedMetaInfIfAsked(@TempDir final Path temp)
+        throws Exception {
+        final Path jar = temp.resolve("hello.jar");
+        try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(jar))) {
+            zip.putNextEntry(new ZipEntry("META-INF/services/org.eolang.Foo"));
+            zip.write("org.eolang.Bar".getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        }
+        new Unzip(jar).into(temp.resolve(ResolveMojo.DIR).resolve("foo/hello/0.1"));
+        final Path classes = temp.resolve("classes");
+        new Moja<>(PlaceMojo.class)
+            .with("targetDir", temp.toFile())
+            .with("outputDir", classes.toFile())
+            .with("placed", temp.resolve("placed.csv").toFile())
+            .with("includeBinaries", new SetOf<>("META-INF/services/**"))
+            .execute();
+        MatcherAssert.assertThat(
+            new TextOf(classes.resolve("META-INF/services/org.eolang.Foo")).asString(),
+            Matchers.equalTo("org.eolang.Bar")
+        );
+    }
+
 }
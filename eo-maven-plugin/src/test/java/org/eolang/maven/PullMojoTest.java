@@ -27,6 +27,8 @@ import com.yegor256.tojos.Json;
 import com.yegor256.tojos.MonoTojos;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.cactoos.io.InputOf;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
@@ -72,4 +74,89 @@ public final class PullMojoTest {
         );
     }
 
+    @Test
+    public void pullsInParallelAndThenFromCache(@TempDir final Path temp) {
+        final Path foreign = temp.resolve("eo-foreign.json");
+        final Path again = temp.resolve("again.json");
+        final int total = 20;
+        for (int idx = 0; idx < total; ++idx) {
+            for (final Path file : new Path[] {foreign, again}) {
+                new MonoTojos(new Json(file))
+                    .add(String.format("org.eolang.obj%d", idx))
+                    .set(AssembleMojo.ATTR_SCOPE, "compile");
+            }
+        }
+        final AtomicInteger pulls = new AtomicInteger();
+        new Moja<>(PullMojo.class)
+            .with("targetDir", temp.resolve("first").toFile())
+            .with("foreign", foreign.toFile())
+            .with("foreignFormat", "json")
+            .with("cache", temp.resolve("cache").toFile())
+            .with("threads", 4)
+            .with(
+                "objectionary",
+                (Objectionary) input -> {
+                    pulls.incrementAndGet();
+                    return new InputOf("[] > hello\n");
+                }
+            )
+            .execute();
+        MatcherAssert.assertThat(pulls.get(), Matchers.equalTo(total));
+        new Moja<>(PullMojo.class)
+            .with("targetDir", temp.resolve("second").toFile())
+            .with("foreign", again.toFile())
+            .with("foreignFormat", "json")
+            .with("cache", temp.resolve("cache").toFile())
+            .with(
+                "objectionary",
+                (Objectionary) input -> {
+                    throw new IllegalStateException("no network");
+                }
+            )
+            .execute();
+        MatcherAssert.assertThat(pulls.get(), Matchers.equalTo(total));
+        MatcherAssert.assertThat(
+            new MonoTojos(new Json(again)).select(
+                t -> t.exists(AssembleMojo.ATTR_EO)
+            ),
+            Matchers.hasSize(total)
+        );
+    }
+
+    @Test
+    public void pullsFromBundleOffline(@TempDir final Path temp) {
+        final Path foreign = temp.resolve("eo-foreign.json");
+        new MonoTojos(new Json(foreign))
+            .add("org.eolang.io.stdout")
+            .set(AssembleMojo.ATTR_SCOPE, "compile");
+        final Path bundle = temp.resolve("objectionary.eob");
+        new Moja<>(BundleMojo.class)
+            .with("objectsDir", Paths.get("../eo-runtime/src/main/eo").toFile())
+            .with("bundle", bundle.toFile())
+            .execute();
+        new Moja<>(PullMojo.class)
+            .with("targetDir", temp.resolve("target").toFile())
+            .with("foreign", foreign.toFile())
+            .with("foreignFormat", "json")
+            .with("bundle", bundle.toFile())
+            .with(
+                "objectionary",
+                (Objectionary) input -> {
+                    throw new IllegalStateException("no network");
+                }
+            )
+            .execute();
+        MatcherAssert.assertThat(
+            Files.exists(
+                temp.resolve(
+                    String.format(
+                        "target/%s/org/eolang/io/stdout.eo",
+                        PullMojo.DIR
+                    )
+                )
+            ),
+            Matchers.is(true)
+        );
+    }
+
 }
@@ -0,0 +1,91 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2021 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.maven;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Scheduler}.
+ *
+ * @since 0.22
+ */
+public final class SchedulerTest {
+
+    @Test
+    public void returnsResultsInOrder() throws Exception {
+        final List<Callable<Integer>> tasks = new ArrayList<>(0);
+        for (int idx = 0; idx < 50; ++idx) {
+            final int num = idx;
+            tasks.add(
+                () -> {
+                    Thread.sleep((long) (50 - num) % 7);
+                    return num;
+                }
+            );
+        }
+        final List<Integer> order = new ArrayList<>(0);
+        new Scheduler(8).exec(
+            tasks,
+            (idx, num) -> {
+                MatcherAssert.assertThat(num, Matchers.equalTo(idx));
+                order.add(num);
+            }
+        );
+        MatcherAssert.assertThat(order, Matchers.hasSize(50));
+    }
+
+    @Test
+    public void throwsFirstFailure() {
+        final List<Callable<Integer>> tasks = new ArrayList<>(0);
+        for (int idx = 0; idx < 10; ++idx) {
+            final int num = idx;
+            tasks.add(
+                () -> {
+                    if (num > 2) {
+                        throw new IllegalArgumentException(
+                            String.format("task %d", num)
+                        );
+                    }
+                    return num;
+                }
+            );
+        }
+        final List<Integer> done = new ArrayList<>(0);
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> new Scheduler(4).exec(tasks, (idx, num) -> done.add(num))
+            ).getMessage(),
+            Matchers.equalTo("task 3")
+        );
+        MatcherAssert.assertThat(done, Matchers.contains(0, 1, 2));
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2021 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.maven;
+
+import com.jcabi.xml.XMLDocument;
+import java.nio.file.Path;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link Summary}.
+ *
+ * @since 0.22
+ */
+public final class SummaryTest {
+
+    @Test
+    public void summarizesXmir(@TempDir final Path temp) throws Exception {
+        final Path file = temp.resolve("foo.xmir");
+        final String xmir = String.join(
+            "",
+            "<program name='foo'><metas>",
+            "<meta><head>package</head><tail>org.foo</tail></meta>",
+            "<meta><head>rt</head><tail>jvm org.foo:bar:0.1</tail>",
+            "<part>jvm</part><part>org.foo:bar:0.1</part></meta>",
+            "</metas><objects><o name='x'><o base='org.eolang.stdout'/>",
+            "<o base='.plus' vararg=''/><o base='$'/></o></objects></program>"
+        );
+        new Save("<program name='foo'/>", file).save();
+        new Summary(file).save(new XMLDocument(xmir));
+        final Summary summary = new Summary(file);
+        MatcherAssert.assertThat(
+            summary.foreign(),
+            Matchers.contains("org.eolang.stdout")
+        );
+        MatcherAssert.assertThat(summary.vararg(), Matchers.is(true));
+        MatcherAssert.assertThat(
+            summary.runtimes("jvm"),
+            Matchers.contains("org.foo:bar:0.1")
+        );
+    }
+
+    @Test
+    public void summarizesAgainIfOutdated(@TempDir final Path temp)
+        throws Exception {
+        final Path file = temp.resolve("bar.xmir");
+        new Save("<program name='bar'/>", file).save();
+        new Summary(file).save(new XMLDocument("<program name='bar'/>"));
+        final long time = file.toFile().lastModified();
+        new Save(
+            "<program name='bar'><o base='org.eolang.random'/></program>",
+            file
+        ).save();
+        MatcherAssert.assertThat(
+            file.toFile().setLastModified(time),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            new Summary(file).foreign(),
+            Matchers.contains("org.eolang.random")
+        );
+    }
+
+}
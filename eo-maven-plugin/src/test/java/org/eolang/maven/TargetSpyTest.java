@@ -0,0 +1,71 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2021 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.maven;
+
+import com.jcabi.xml.XMLDocument;
+import com.jcabi.xml.XSL;
+import com.jcabi.xml.XSLDocument;
+import java.nio.file.Path;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link TargetSpy}.
+ *
+ * @since 0.22
+ */
+public final class TargetSpyTest {
+
+    @Test
+    public void savesOnlyStepsWithNewErrors(@TempDir final Path temp)
+        throws Exception {
+        final XSL xsl = new XSLDocument(
+            String.join(
+                "",
+                "<xsl:stylesheet xmlns:xsl='http://www.w3.org/1999/XSL/Transform'",
+                " id='test-sheet' version='2.0'/>"
+            )
+        );
+        final TargetSpy spy = new TargetSpy(temp, "errors");
+        spy.push(0, xsl, new XMLDocument("<program><errors/></program>"));
+        spy.push(1, xsl, new XMLDocument("<program><errors><error/></errors></program>"));
+        spy.push(2, xsl, new XMLDocument("<program><errors><error/></errors></program>"));
+        MatcherAssert.assertThat(
+            new Walk(temp),
+            Matchers.contains(temp.resolve("01-test-sheet.xml"))
+        );
+    }
+
+    @Test
+    public void rejectsUnknownMode(@TempDir final Path temp) {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new TargetSpy(temp, "everything")
+        );
+    }
+
+}
@@ -110,6 +110,103 @@ public final class TranspileMojoTest {
         );
     }
 
+    @Test
+    public void restoresJavaFromCache(@TempDir final Path temp)
+        throws Exception {
+        final Path src = temp.resolve("foo.src.eo");
+        new Save(new ResourceOf("org/eolang/maven/mess.eo"), src).save();
+        final Path target = temp.resolve("target");
+        final Path generated = temp.resolve("generated");
+        final Path foreign = temp.resolve("eo-foreign.json");
+        new MonoTojos(new Csv(foreign))
+            .add("foo.src")
+            .set(AssembleMojo.ATTR_SCOPE, "compile")
+            .set(AssembleMojo.ATTR_EO, src.toString());
+        new Moja<>(ParseMojo.class)
+            .with("targetDir", target.toFile())
+            .with("foreign", foreign.toFile())
+            .with("foreignFormat", "csv")
+            .execute();
+        new Moja<>(OptimizeMojo.class)
+            .with("targetDir", target.toFile())
+            .with("foreign", foreign.toFile())
+            .with("foreignFormat", "csv")
+            .execute();
+        final Path java = generated.resolve("EOorg/EOeolang/EOexamples/EOmessTest.java");
+        final Path xmir = target.resolve(TranspileMojo.DIR).resolve("foo/src.xmir");
+        String before = "";
+        for (int idx = 0; idx < 2; ++idx) {
+            new Moja<>(TranspileMojo.class)
+                .with("compiler", "canonical")
+                .with("project", new MavenProjectStub())
+                .with("targetDir", target.toFile())
+                .with("generatedDir", generated.toFile())
+                .with("foreign", foreign.toFile())
+                .with("foreignFormat", "csv")
+                .with("cache", temp.resolve("cache").toFile())
+                .with("spy", "off")
+                .execute();
+            if (idx == 0) {
+                before = new TextOf(java).asString();
+                Files.delete(java);
+                Files.delete(xmir);
+            }
+        }
+        MatcherAssert.assertThat(
+            new TextOf(java).asString(),
+            Matchers.equalTo(before)
+        );
+        MatcherAssert.assertThat(
+            Files.exists(xmir),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    public void spiesEvenIfFoundInCache(@TempDir final Path temp)
+        throws Exception {
+        final Path src = temp.resolve("foo.src.eo");
+        new Save(new ResourceOf("org/eolang/maven/mess.eo"), src).save();
+        final Path target = temp.resolve("target");
+        final Path foreign = temp.resolve("eo-foreign.json");
+        new MonoTojos(new Csv(foreign))
+            .add("foo.src")
+            .set(AssembleMojo.ATTR_SCOPE, "compile")
+            .set(AssembleMojo.ATTR_EO, src.toString());
+        new Moja<>(ParseMojo.class)
+            .with("targetDir", target.toFile())
+            .with("foreign", foreign.toFile())
+            .with("foreignFormat", "csv")
+            .execute();
+        new Moja<>(OptimizeMojo.class)
+            .with("targetDir", target.toFile())
+            .with("foreign", foreign.toFile())
+            .with("foreignFormat", "csv")
+            .execute();
+        for (int idx = 0; idx < 2; ++idx) {
+            new Moja<>(TranspileMojo.class)
+                .with("compiler", "canonical")
+                .with("project", new MavenProjectStub())
+                .with("targetDir", target.toFile())
+                .with("generatedDir", temp.resolve("generated").toFile())
+                .with("foreign", foreign.toFile())
+                .with("foreignFormat", "csv")
+                .with("cache", temp.resolve("cache").toFile())
+                .with("spy", "full")
+                .execute();
+            if (idx == 0) {
+                Files.delete(target.resolve(TranspileMojo.DIR).resolve("foo/src.xmir"));
+                for (final Path pre : new Walk(target.resolve(TranspileMojo.PRE))) {
+                    Files.delete(pre);
+                }
+            }
+        }
+        MatcherAssert.assertThat(
+            new Walk(target.resolve(TranspileMojo.PRE)),
+            Matchers.not(Matchers.empty())
+        );
+    }
+
     @Test
     public void testSimpleCompilation(@TempDir final Path temp)
         throws Exception {
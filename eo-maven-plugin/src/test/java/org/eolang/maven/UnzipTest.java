@@ -0,0 +1,108 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2021 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.maven;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.cactoos.text.TextOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link Unzip}.
+ *
+ * @since 0.22
+ */
+public final class UnzipTest {
+
+    @Test
+    public void unpacksJar(@TempDir final Path temp) throws Exception {
+        final Path jar = temp.resolve("foo.jar");
+        UnzipTest.jar(
+            jar,
+            "META-INF/MANIFEST.MF", "META-INF/FOO.SF", "META-INF/FOO.RSA",
+            "EO-SOURCES/org/eolang/foo.eo", "EOorg/EOeolang/EOfoo.class"
+        );
+        final Path dir = temp.resolve("06-resolve/org.eolang/foo/0.1.0");
+        MatcherAssert.assertThat(new Unzip(jar).into(dir), Matchers.equalTo(3));
+        MatcherAssert.assertThat(
+            new TextOf(dir.resolve("EOorg/EOeolang/EOfoo.class")).asString(),
+            Matchers.equalTo("EOorg/EOeolang/EOfoo.class")
+        );
+        MatcherAssert.assertThat(
+            Files.exists(dir.resolve("EO-SOURCES/org/eolang/foo.eo")),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            Files.exists(dir.resolve("META-INF/MANIFEST.MF")),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            Files.exists(dir.resolve("META-INF/FOO.SF")),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    public void leavesNothingIfBroken(@TempDir final Path temp) throws Exception {
+        final Path jar = temp.resolve("evil.jar");
+        UnzipTest.jar(jar, "EOfoo.class", "../../evil.txt");
+        final Path dir = temp.resolve("deps/foo");
+        Assertions.assertThrows(
+            IOException.class,
+            () -> new Unzip(jar).into(dir)
+        );
+        MatcherAssert.assertThat(
+            Files.list(temp.resolve("deps")).count(),
+            Matchers.equalTo(0L)
+        );
+    }
+
+    /**
+     * Make a JAR, where the content of each entry is its name.
+     * @param jar The file
+     * @param names Names of entries
+     * @throws IOException If fails
+     */
+    private static void jar(final Path jar, final String... names)
+        throws IOException {
+        try (OutputStream out = Files.newOutputStream(jar);
+            ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (final String name : names) {
+                zip.putNextEntry(new ZipEntry(name));
+                zip.write(name.getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+    }
+
+}
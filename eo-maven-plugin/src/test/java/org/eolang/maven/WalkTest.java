@@ -48,4 +48,28 @@ public final class WalkTest {
         );
     }
 
+    @Test
+    public void includesAndExcludesTogether(@TempDir final Path temp)
+        throws Exception {
+        new Save("", temp.resolve("org/eolang/a.class")).save();
+        new Save("", temp.resolve("org/eolang/io/b.class")).save();
+        new Save("", temp.resolve("org/eolang/io/c.txt")).save();
+        new Save("", temp.resolve("organization/d.class")).save();
+        new Save("", temp.resolve("EOorg/e.class")).save();
+        MatcherAssert.assertThat(
+            new Walk(temp)
+                .includes(new ListOf<>("org/eolang/**", "EO**"))
+                .includes(new ListOf<>("**.class"))
+                .excludes(new ListOf<>("**/io/**")),
+            Matchers.containsInAnyOrder(
+                temp.resolve("org/eolang/a.class"),
+                temp.resolve("EOorg/e.class")
+            )
+        );
+        MatcherAssert.assertThat(
+            new Walk(temp),
+            Matchers.iterableWithSize(5)
+        );
+    }
+
 }
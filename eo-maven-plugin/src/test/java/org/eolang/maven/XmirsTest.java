@@ -0,0 +1,66 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2021 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.maven;
+
+import com.jcabi.xml.XML;
+import java.nio.file.Path;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link Xmirs}.
+ *
+ * @since 0.22
+ */
+public final class XmirsTest {
+
+    @Test
+    public void parsesOnlyOnce(@TempDir final Path temp) throws Exception {
+        final Path file = temp.resolve("foo.xmir");
+        new Save("<program name='foo'/>", file).save();
+        final XML first = Xmirs.load(file);
+        MatcherAssert.assertThat(
+            Xmirs.load(temp.resolve("../").resolve(temp.getFileName()).resolve("foo.xmir")),
+            Matchers.sameInstance(first)
+        );
+    }
+
+    @Test
+    public void parsesAgainIfModified(@TempDir final Path temp) throws Exception {
+        final Path file = temp.resolve("bar.xmir");
+        new Save("<program name='bar'/>", file).save();
+        MatcherAssert.assertThat(
+            Xmirs.load(file).xpath("/program/@name"),
+            Matchers.contains("bar")
+        );
+        new Save("<program name='barbar'/>", file).save();
+        MatcherAssert.assertThat(
+            Xmirs.load(file).xpath("/program/@name"),
+            Matchers.contains("barbar")
+        );
+    }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2021 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.parser;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+/**
+ * Java implementation of {@code add-refs.xsl}.
+ *
+ * The sheet finds the object each {@code o/@base} refers to with
+ * {@code ancestor::*[o[@name=$o/@base]][1]}, which is quadratic. Here
+ * the scopes are kept in a table during one walk through the tree: for
+ * each name there is a stack of the elements above the current one,
+ * which have children with this name.
+ *
+ * @since 0.22
+ */
+final class AddRefs implements Shortcut {
+
+    @Override
+    public void apply(final Document xmir) {
+        AddRefs.walk(xmir.getDocumentElement(), new HashMap<>(0));
+    }
+
+    /**
+     * Walk through the element and all its kids.
+     * @param element The element
+     * @param scopes Stacks of named objects, by their names
+     */
+    private static void walk(final Element element,
+        final Map<String, Deque<List<Element>>> scopes) {
+        if ("o".equals(element.getNodeName())) {
+            AddRefs.resolve(element, scopes);
+        }
+        final Map<String, List<Element>> named = new LinkedHashMap<>(0);
+        for (final Element kid : InPlace.elements(element)) {
+            if ("o".equals(kid.getNodeName()) && kid.hasAttribute("name")) {
+                named.computeIfAbsent(
+                    kid.getAttribute("name"), key -> new ArrayList<>(1)
+                ).add(kid);
+            }
+        }
+        for (final Map.Entry<String, List<Element>> ent : named.entrySet()) {
+            scopes.computeIfAbsent(ent.getKey(), key -> new ArrayDeque<>(1))
+                .push(ent.getValue());
+        }
+        for (final Element kid : InPlace.elements(element)) {
+            AddRefs.walk(kid, scopes);
+        }
+        for (final String name : named.keySet()) {
+            scopes.get(name).pop();
+        }
+    }
+
+    /**
+     * Add @ref to the object, if it refers to something visible.
+     * @param obj The object
+     * @param scopes Stacks of named objects, by their names
+     */
+    private static void resolve(final Element obj,
+        final Map<String, Deque<List<Element>>> scopes) {
+        final String base = obj.getAttribute("base");
+        if (obj.hasAttribute("base") && !base.startsWith(".")
+            && !"$".equals(base) && !"^".equals(base)) {
+            final Deque<List<Element>> stack = scopes.get(base);
+            if (stack != null && !stack.isEmpty()) {
+                final Element target = AddRefs.single(obj, stack.peek());
+                if (!obj.hasAttribute("ref")) {
+                    obj.setAttribute("ref", target.getAttribute("line"));
+                }
+            }
+        }
+    }
+
+    /**
+     * Make sure there is exactly one object found, with a line number.
+     * @param obj The object that refers
+     * @param found Objects found
+     * @return The only object found
+     */
+    private static Element single(final Element obj, final List<Element> found) {
+        if (found.size() != 1) {
+            final StringBuilder msg = new StringBuilder(0)
+                .append("Duplicate names inside \"")
+                .append(obj.getAttribute("name"))
+                .append("\", the base is \"").append(obj.getAttribute("base"))
+                .append("\" at the line #").append(obj.getAttribute("line"))
+                .append(" pointing to ");
+            for (int idx = 0; idx < found.size(); ++idx) {
+                if (idx > 0) {
+                    msg.append(", ");
+                }
+                msg.append("<o/> at line #").append(found.get(idx).getAttribute("line"));
+            }
+            msg.append("; it's internal bug");
+            throw new IllegalArgumentException(msg.toString());
+        }
+        final Element target = found.get(0);
+        if (!target.hasAttribute("line")) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Attribute @line is absent at \"%s\"",
+                    target.getAttribute("name")
+                )
+            );
+        }
+        return target;
+    }
+
+}
@@ -0,0 +1,170 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2021 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.parser;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+/**
+ * A cursor in a DOM document, which is being built by {@link XeListener}.
+ *
+ * It understands the same few commands as Xembly
+ * {@link org.xembly.Directives} do, but applies them right away, instead
+ * of collecting them first and then replaying them, with an XPath query
+ * for every move down the tree.
+ *
+ * @since 0.22
+ */
+final class Cursor {
+
+    /**
+     * The document.
+     */
+    private final Document doc;
+
+    /**
+     * Where we are now.
+     */
+    private Node node;
+
+    /**
+     * Ctor.
+     */
+    Cursor() {
+        this.doc = Cursor.empty();
+        this.node = this.doc;
+    }
+
+    /**
+     * The document built so far.
+     * @return The document
+     */
+    Document document() {
+        return this.doc;
+    }
+
+    /**
+     * Add a child element and move into it.
+     * @param name The name of the element
+     * @return Itself
+     */
+    Cursor add(final String name) {
+        this.node = this.node.appendChild(this.doc.createElement(name));
+        return this;
+    }
+
+    /**
+     * Move to the parent.
+     * @return Itself
+     */
+    Cursor up() {
+        this.node = this.node.getParentNode();
+        return this;
+    }
+
+    /**
+     * Move into the last child element with the given name.
+     * @param name The name of the element
+     * @return Itself
+     */
+    Cursor last(final String name) {
+        Node kid = this.node.getLastChild();
+        while (kid != null && !name.equals(kid.getNodeName())) {
+            kid = kid.getPreviousSibling();
+        }
+        if (kid == null) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "There is no <%s> in <%s>",
+                    name, this.node.getNodeName()
+                )
+            );
+        }
+        this.node = kid;
+        return this;
+    }
+
+    /**
+     * Set the attribute of the current element.
+     * @param name The name of the attribute
+     * @param value The value
+     * @return Itself
+     */
+    Cursor attr(final String name, final Object value) {
+        Element.class.cast(this.node).setAttribute(
+            name, Cursor.legal(value.toString())
+        );
+        return this;
+    }
+
+    /**
+     * Replace the content of the current element with the text.
+     * @param text The text
+     * @return Itself
+     */
+    Cursor set(final Object text) {
+        this.node.setTextContent(Cursor.legal(text.toString()));
+        return this;
+    }
+
+    /**
+     * Make sure the text may be put into XML, the way Xembly does.
+     * @param text The text
+     * @return The same text
+     */
+    private static String legal(final String text) {
+        for (int idx = 0; idx < text.length(); ++idx) {
+            final char chr = text.charAt(idx);
+            // @checkstyle BooleanExpressionComplexityCheck (3 lines)
+            // @checkstyle MagicNumberCheck (2 lines)
+            if (chr < ' ' && chr != '\t' && chr != '\n' && chr != '\r'
+                || chr >= 0x7f && chr <= 0x9f && chr != 0x85) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        "Illegal XML character 0x%04x at position %d in \"%s\"",
+                        (int) chr, idx, text
+                    )
+                );
+            }
+        }
+        return text;
+    }
+
+    /**
+     * Make an empty document.
+     * @return The document
+     */
+    private static Document empty() {
+        try {
+            return DocumentBuilderFactory.newInstance()
+                .newDocumentBuilder().newDocument();
+        } catch (final ParserConfigurationException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2021 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.parser;
+
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.util.List;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Result;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
+import org.w3c.dom.Node;
+
+/**
+ * XML document, which is a DOM node produced by one step of
+ * {@link Xsline} and consumed by the next one.
+ *
+ * Unlike {@link XMLDocument}, which copies the node when it's
+ * constructed and then again on every call to {@link #node()}, this one
+ * gives the node away as is. The {@link XMLDocument} is made only when
+ * XPath queries are needed, for example by a {@link Spy}.
+ *
+ * @since 0.22
+ */
+final class Dom implements XML {
+
+    /**
+     * The node.
+     */
+    private final Node dom;
+
+    /**
+     * The XML document, made only on demand.
+     */
+    private final Unchecked<XML> doc;
+
+    /**
+     * Ctor.
+     * @param node The node
+     */
+    Dom(final Node node) {
+        this.dom = node;
+        this.doc = new Unchecked<>(new Sticky<>(() -> new XMLDocument(node)));
+    }
+
+    @Override
+    public List<String> xpath(final String query) {
+        return this.doc.value().xpath(query);
+    }
+
+    @Override
+    public List<XML> nodes(final String query) {
+        return this.doc.value().nodes(query);
+    }
+
+    @Override
+    public XML registerNs(final String prefix, final Object uri) {
+        return this.doc.value().registerNs(prefix, uri);
+    }
+
+    @Override
+    public XML merge(final NamespaceContext context) {
+        return this.doc.value().merge(context);
+    }
+
+    @Override
+    public Node node() {
+        return this.dom;
+    }
+
+    /**
+     * Print it exactly the way {@link XMLDocument} does.
+     * @return The XML as text
+     */
+    @Override
+    public String toString() {
+        final StringWriter writer = new StringWriter();
+        this.print(new StreamResult(writer));
+        return writer.toString();
+    }
+
+    /**
+     * Print it to the stream, the same way as {@link #toString()} does.
+     * @param stream The stream
+     */
+    public void print(final OutputStream stream) {
+        this.print(new StreamResult(stream));
+    }
+
+    /**
+     * Print it.
+     * @param result Where to print
+     */
+    private void print(final Result result) {
+        try {
+            final Transformer trans = TransformerFactory.newInstance().newTransformer();
+            trans.setOutputProperty(OutputKeys.INDENT, "yes");
+            trans.setOutputProperty(OutputKeys.VERSION, "1.0");
+            trans.transform(new DOMSource(this.dom), result);
+        } catch (final TransformerException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+}
@@ -0,0 +1,141 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2021 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+/**
+ * XMIR document, which is modified in place by the steps of
+ * {@link Xsline} that don't need a full transformation.
+ *
+ * It does exactly what the {@code _each.xsl} does after every sheet: it stamps
+ * new errors with the step and the sheet, and adds the sheet to the list
+ * of {@code /program/sheets}. It also merges new errors found by
+ * checkers, which are applied to the {@code /program/errors} element only.
+ *
+ * @since 0.22
+ */
+final class InPlace {
+
+    /**
+     * The document.
+     */
+    private final Document doc;
+
+    /**
+     * Ctor.
+     * @param node The node of the document
+     */
+    InPlace(final Node node) {
+        this.doc = Document.class.cast(node);
+    }
+
+    /**
+     * Apply the checker and add the errors it found.
+     * @param sheet The checker
+     * @return Itself
+     */
+    public InPlace check(final Sheet sheet) {
+        final Element errors = this.child("errors");
+        if (errors != null) {
+            final int before = InPlace.elements(errors).size();
+            final List<Element> after = InPlace.elements(sheet.check(errors));
+            for (final Element error : after.subList(before, after.size())) {
+                errors.appendChild(this.doc.importNode(error, true));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Stamp new errors and register the sheet, as {@code _each.xsl} does.
+     * @param step The index of the step
+     * @param sheet The ID of the sheet
+     * @return The document
+     */
+    public Node stamp(final int step, final String sheet) {
+        final Element errors = this.child("errors");
+        if (errors != null) {
+            for (final Element error : InPlace.elements(errors)) {
+                if (!"error".equals(error.getNodeName())) {
+                    continue;
+                }
+                if (!error.hasAttribute("step") || !error.hasAttribute("sheet")) {
+                    if (!error.hasAttribute("step")) {
+                        error.setAttribute("step", Integer.toString(step));
+                    }
+                    if (!error.hasAttribute("sheet")) {
+                        error.setAttribute("sheet", sheet);
+                    }
+                }
+            }
+        }
+        final Element sheets = this.child("sheets");
+        if (sheets != null) {
+            final Element added = this.doc.createElement("sheet");
+            added.setTextContent(sheet);
+            sheets.appendChild(added);
+        }
+        return this.doc;
+    }
+
+    /**
+     * Find a child of {@code /program}.
+     * @param name Name of the child
+     * @return The child or NULL if it's absent
+     */
+    private Element child(final String name) {
+        final Element root = this.doc.getDocumentElement();
+        Element found = null;
+        if (root != null && "program".equals(root.getNodeName())) {
+            for (final Element kid : InPlace.elements(root)) {
+                if (name.equals(kid.getNodeName())) {
+                    found = kid;
+                    break;
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * All child elements of the node.
+     * @param node The node
+     * @return Child elements
+     */
+    static List<Element> elements(final Node node) {
+        final List<Element> list = new ArrayList<>(0);
+        for (Node kid = node.getFirstChild(); kid != null; kid = kid.getNextSibling()) {
+            if (kid.getNodeType() == Node.ELEMENT_NODE) {
+                list.add(Element.class.cast(kid));
+            }
+        }
+        return list;
+    }
+
+}
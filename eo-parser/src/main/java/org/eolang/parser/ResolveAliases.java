@@ -0,0 +1,159 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2021 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.parser;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+/**
+ * Java implementation of {@code resolve-aliases.xsl}.
+ *
+ * The sheet looks through all {@code /program/metas/meta} for every
+ * object; here the aliases are indexed once, before one walk through
+ * the tree.
+ *
+ * @since 0.22
+ */
+final class ResolveAliases implements Shortcut {
+
+    @Override
+    public void apply(final Document xmir) {
+        final Map<String, List<Element>> aliases = new HashMap<>(0);
+        final Element root = xmir.getDocumentElement();
+        List<Element> all = new ArrayList<>(0);
+        if ("program".equals(root.getNodeName())) {
+            all = ResolveAliases.kids(root, "metas");
+        }
+        for (final Element metas : all) {
+            for (final Element meta : ResolveAliases.kids(metas, "meta")) {
+                final List<Element> parts = ResolveAliases.kids(meta, "part");
+                if (ResolveAliases.isAlias(meta) && !parts.isEmpty()) {
+                    aliases.computeIfAbsent(
+                        parts.get(0).getTextContent(), key -> new ArrayList<>(1)
+                    ).add(meta);
+                }
+            }
+        }
+        ResolveAliases.walk(root, aliases);
+    }
+
+    /**
+     * Walk through the element and all its kids.
+     * @param element The element
+     * @param aliases Alias metas, by their first parts
+     */
+    private static void walk(final Element element,
+        final Map<String, List<Element>> aliases) {
+        if ("o".equals(element.getNodeName())) {
+            ResolveAliases.resolve(element, aliases);
+        }
+        for (final Element kid : InPlace.elements(element)) {
+            ResolveAliases.walk(kid, aliases);
+        }
+    }
+
+    /**
+     * Replace the @base of the object, if it's an alias.
+     * @param obj The object
+     * @param aliases Alias metas, by their first parts
+     */
+    private static void resolve(final Element obj,
+        final Map<String, List<Element>> aliases) {
+        final String base = obj.getAttribute("base");
+        final List<Element> metas = aliases.get(base);
+        if (!obj.hasAttribute("ref") && obj.hasAttribute("base")
+            && !base.startsWith(".") && !base.contains(".") && metas != null) {
+            final List<String> tails = new ArrayList<>(metas.size());
+            for (final Element meta : metas) {
+                final List<Element> parts = ResolveAliases.kids(meta, "part");
+                if (parts.size() > 1) {
+                    final String tail = parts.get(1).getTextContent();
+                    if (tail.isEmpty()) {
+                        throw new IllegalArgumentException(
+                            String.format(
+                                "The alias \"%s\" doesn't have the tail part: \"%s\" at line %s",
+                                ResolveAliases.text(meta, "head"),
+                                ResolveAliases.text(meta, "tail"),
+                                meta.getAttribute("line")
+                            )
+                        );
+                    }
+                    tails.add(tail);
+                }
+            }
+            obj.setAttribute("base", String.join(" ", tails));
+        }
+    }
+
+    /**
+     * Is it an alias?
+     * @param meta The meta
+     * @return TRUE if it is
+     */
+    private static boolean isAlias(final Element meta) {
+        boolean alias = false;
+        for (final Element head : ResolveAliases.kids(meta, "head")) {
+            if ("alias".equals(head.getTextContent())) {
+                alias = true;
+                break;
+            }
+        }
+        return alias;
+    }
+
+    /**
+     * Text of all kids with this name, separated by spaces.
+     * @param element The element
+     * @param name The name of kids
+     * @return Text
+     */
+    private static String text(final Element element, final String name) {
+        final List<String> texts = new ArrayList<>(1);
+        for (final Element kid : ResolveAliases.kids(element, name)) {
+            texts.add(kid.getTextContent());
+        }
+        return String.join(" ", texts);
+    }
+
+    /**
+     * Child elements with this name.
+     * @param element The element
+     * @param name The name of them
+     * @return Elements
+     */
+    private static List<Element> kids(final Element element, final String name) {
+        final List<Element> list = new ArrayList<>(1);
+        for (final Element kid : InPlace.elements(element)) {
+            if (name.equals(kid.getNodeName())) {
+                list.add(kid);
+            }
+        }
+        return list;
+    }
+
+}
@@ -25,21 +25,39 @@ package org.eolang.parser;
 
 import com.jcabi.log.Logger;
 import com.jcabi.xml.XML;
-import com.jcabi.xml.XSDDocument;
 import java.io.IOException;
 import java.util.Collection;
+import java.util.LinkedList;
+import javax.xml.XMLConstants;
 import javax.xml.transform.dom.DOMSource;
-import org.cactoos.io.ResourceOf;
-import org.cactoos.text.TextOf;
+import javax.xml.validation.SchemaFactory;
+import javax.xml.validation.Validator;
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.SAXException;
 import org.xml.sax.SAXParseException;
 
 /**
  * The schema for XMIR.
  *
+ * The XSD is compiled only once per JVM. The compiled schema is
+ * thread-safe, while its validators are not, that's why every thread
+ * gets its own one.
+ *
  * @since 0.6
  */
 public final class Schema {
 
+    /**
+     * The compiled XMIR.xsd.
+     */
+    private static final javax.xml.validation.Schema XSD = Schema.compile();
+
+    /**
+     * Validators, one per thread.
+     */
+    private static final ThreadLocal<Validator> VALIDATORS =
+        ThreadLocal.withInitial(Schema.XSD::newValidator);
+
     /**
      * The XML.
      */
@@ -58,9 +76,7 @@ public final class Schema {
      * @throws IOException If fails
      */
     public void check() throws IOException {
-        final Collection<SAXParseException> violations = new XSDDocument(
-            new TextOf(new ResourceOf("XMIR.xsd")).asString()
-        ).validate(new DOMSource(this.xmir.node()));
+        final Collection<SAXParseException> violations = this.violations();
         if (!violations.isEmpty()) {
             Logger.error(this, "XML with XSD failures:%n%s", this.xmir);
             for (final SAXParseException violation : violations) {
@@ -80,4 +96,56 @@ public final class Schema {
         }
     }
 
+    /**
+     * Validate the XML and collect all violations.
+     * @return Violations found
+     * @throws IOException If fails
+     */
+    private Collection<SAXParseException> violations() throws IOException {
+        final Collection<SAXParseException> violations = new LinkedList<>();
+        final Validator validator = Schema.VALIDATORS.get();
+        validator.setErrorHandler(
+            new ErrorHandler() {
+                @Override
+                public void warning(final SAXParseException ex) {
+                    violations.add(ex);
+                }
+
+                @Override
+                public void error(final SAXParseException ex) {
+                    violations.add(ex);
+                }
+
+                @Override
+                public void fatalError(final SAXParseException ex) {
+                    violations.add(ex);
+                }
+            }
+        );
+        try {
+            validator.validate(new DOMSource(this.xmir.node()));
+        } catch (final SAXException ex) {
+            throw new IllegalStateException(ex);
+        } finally {
+            validator.setErrorHandler(null);
+        }
+        return violations;
+    }
+
+    /**
+     * Compile XMIR.xsd from the classpath.
+     * @return The schema
+     */
+    private static javax.xml.validation.Schema compile() {
+        try {
+            return SchemaFactory.newInstance(
+                XMLConstants.W3C_XML_SCHEMA_NS_URI
+            ).newSchema(Schema.class.getClassLoader().getResource("XMIR.xsd"));
+        } catch (final SAXException ex) {
+            throw new IllegalStateException(
+                "Failed to compile XMIR.xsd", ex
+            );
+        }
+    }
+
 }
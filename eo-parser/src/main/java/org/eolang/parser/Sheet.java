@@ -0,0 +1,446 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2021 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.parser;
+
+import com.jcabi.xml.ClasspathSources;
+import com.jcabi.xml.Sources;
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import com.jcabi.xml.XSL;
+import com.jcabi.xml.XSLDocument;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.Result;
+import javax.xml.transform.Templates;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMResult;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.sax.SAXResult;
+import javax.xml.transform.sax.SAXTransformerFactory;
+import javax.xml.transform.sax.TransformerHandler;
+import javax.xml.transform.stream.StreamResult;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import org.cactoos.io.ResourceOf;
+import org.cactoos.map.MapEntry;
+import org.cactoos.map.MapOf;
+import org.cactoos.text.TextOf;
+import org.cactoos.text.UncheckedText;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+
+/**
+ * XSL stylesheet from classpath, compiled only once per JVM.
+ *
+ * Unlike {@link com.jcabi.xml.XSLDocument}, which compiles the stylesheet
+ * on every transformation, this one keeps compiled {@link Templates},
+ * which are thread-safe and may be shared by any number of pipelines
+ * running in parallel. The ID of the sheet (its {@code /*\/@id}) is also
+ * resolved only once.
+ *
+ * @since 0.22
+ */
+final class Sheet implements XSL {
+
+    /**
+     * All sheets compiled so far, by the names of their resources.
+     */
+    private static final ConcurrentMap<String, Sheet> ALL =
+        new ConcurrentHashMap<>(0);
+
+    /**
+     * Transformer factory, to chain sheets, one per thread, since JAXP
+     * doesn't promise that factories are thread-safe.
+     */
+    private static final ThreadLocal<SAXTransformerFactory> FACTORY =
+        ThreadLocal.withInitial(
+            () -> SAXTransformerFactory.class.cast(TransformerFactory.newInstance())
+        );
+
+    /**
+     * Sheets that only add new errors to {@code /program/errors}
+     * and never change anything else, as long as they stay in this
+     * directory.
+     */
+    private static final String CHECKERS = "org/eolang/parser/errors/";
+
+    /**
+     * XPath 1.0 queries, by the names of sheets, which must find something
+     * in the XML, otherwise the sheet is known to be an identity
+     * transformation and may be skipped.
+     */
+    private static final Map<String, String> GUARDS = new MapOf<String, String>(
+        new MapEntry<>(
+            "org/eolang/parser/wrap-method-calls.xsl",
+            "//o[@method]"
+        ),
+        new MapEntry<>(
+            "org/eolang/parser/expand-aliases.xsl",
+            "/program/metas/meta[head='alias' and not(contains(tail, ' '))]"
+        ),
+        new MapEntry<>(
+            "org/eolang/parser/resolve-aliases.xsl",
+            "//o[not(@ref) and @base and not(starts-with(@base, '.')) and not(contains(@base, '.'))]"
+        ),
+        new MapEntry<>(
+            "org/eolang/parser/add-default-package.xsl",
+            String.join(
+                " and ",
+                "//o[@base and not(starts-with(@base, '.'))",
+                "not(contains(@base, '.')) and not(@ref)",
+                "@base!='@' and @base!='^' and @base!='&' and @base!='$']"
+            )
+        ),
+        new MapEntry<>(
+            "org/eolang/parser/optimize/globals-to-abstracts.xsl",
+            "//objects/o[@base or not(o or @atom)]"
+        ),
+        new MapEntry<>(
+            "org/eolang/parser/optimize/remove-refs.xsl",
+            "//@ref"
+        ),
+        new MapEntry<>(
+            "org/eolang/parser/optimize/remove-levels.xsl",
+            "//o[o[@level]]"
+        )
+    );
+
+    /**
+     * Java implementations of sheets, by their names.
+     */
+    private static final Map<String, Shortcut> SHORTCUTS = new MapOf<String, Shortcut>(
+        new MapEntry<>("org/eolang/parser/add-refs.xsl", new AddRefs()),
+        new MapEntry<>("org/eolang/parser/resolve-aliases.xsl", new ResolveAliases())
+    );
+
+    /**
+     * XPath, one per thread.
+     */
+    private static final ThreadLocal<XPath> XPATH = ThreadLocal.withInitial(
+        () -> XPathFactory.newInstance().newXPath()
+    );
+
+    /**
+     * Document builder, one per thread, since neither builders nor
+     * their factories are thread-safe.
+     */
+    private static final ThreadLocal<DocumentBuilder> BUILDER =
+        ThreadLocal.withInitial(
+            () -> {
+                try {
+                    return DocumentBuilderFactory.newInstance().newDocumentBuilder();
+                } catch (final ParserConfigurationException ex) {
+                    throw new IllegalStateException(ex);
+                }
+            }
+        );
+
+    /**
+     * Name of the resource.
+     */
+    private final String name;
+
+    /**
+     * The ID of the sheet.
+     */
+    private final String sid;
+
+    /**
+     * The text of the sheet.
+     */
+    private final String text;
+
+    /**
+     * Compiled sheet.
+     */
+    private final Templates templates;
+
+    /**
+     * Parameters.
+     */
+    private final Map<String, Object> params;
+
+    /**
+     * Ctor.
+     * @param res Name of the resource in classpath
+     */
+    private Sheet(final String res) {
+        this(res, new UncheckedText(new TextOf(new ResourceOf(res))).asString());
+    }
+
+    /**
+     * Ctor.
+     * @param res Name of the resource in classpath
+     * @param txt The text of it
+     */
+    private Sheet(final String res, final String txt) {
+        this(res, Sheet.idOf(res, txt), txt, Sheet.compile(res, txt), new HashMap<>(0));
+    }
+
+    /**
+     * Ctor.
+     * @param res Name of the resource in classpath
+     * @param id The ID
+     * @param txt The text of it
+     * @param tpls Compiled templates
+     * @param map Parameters
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private Sheet(final String res, final String id, final String txt,
+        final Templates tpls, final Map<String, Object> map) {
+        this.name = res;
+        this.sid = id;
+        this.text = txt;
+        this.templates = tpls;
+        this.params = map;
+    }
+
+    /**
+     * Get the sheet by the name of its resource, compiling it only once.
+     * @param res Name of the resource in classpath
+     * @return The sheet
+     */
+    static Sheet of(final String res) {
+        return Sheet.ALL.computeIfAbsent(res, Sheet::new);
+    }
+
+    /**
+     * The ID of the sheet.
+     * @return The ID
+     */
+    String id() {
+        return this.sid;
+    }
+
+    /**
+     * Is it a sheet that only adds new errors to {@code /program/errors}?
+     * @return TRUE if so
+     */
+    boolean checker() {
+        return this.name.startsWith(Sheet.CHECKERS);
+    }
+
+    /**
+     * Is it known that this sheet won't change anything in this XML?
+     * @param node The XML
+     * @return TRUE if it's safe to skip the sheet
+     */
+    boolean idle(final Node node) {
+        final String guard = Sheet.GUARDS.get(this.name);
+        boolean idle = false;
+        if (guard != null) {
+            try {
+                idle = !(Boolean) Sheet.XPATH.get().evaluate(
+                    guard, node, XPathConstants.BOOLEAN
+                );
+            } catch (final XPathExpressionException ex) {
+                throw new IllegalStateException(
+                    String.format("Broken guard of %s: %s", this.name, guard),
+                    ex
+                );
+            }
+        }
+        return idle;
+    }
+
+    /**
+     * Is there a Java implementation of this sheet?
+     * @return TRUE if there is
+     */
+    boolean rewritable() {
+        return Sheet.SHORTCUTS.containsKey(this.name);
+    }
+
+    /**
+     * Modify the document in place by the Java implementation of this sheet.
+     * @param node The document
+     */
+    void rewrite(final Node node) {
+        Sheet.SHORTCUTS.get(this.name).apply(Document.class.cast(node));
+    }
+
+    /**
+     * Apply this checker to the {@code /program/errors} element only,
+     * without copying the rest of the document.
+     * @param errors The element
+     * @return New {@code errors} element, as produced by the checker
+     */
+    Node check(final Node errors) {
+        final Document target = Sheet.document();
+        this.transform(errors, new DOMResult(target));
+        return target.getDocumentElement();
+    }
+
+    @Override
+    public String toString() {
+        return this.text;
+    }
+
+    @Override
+    public XML transform(final XML xml) {
+        final Document target = Sheet.document();
+        this.transform(xml.node(), new DOMResult(target));
+        return new Dom(target);
+    }
+
+    /**
+     * Transform the XML by this sheet and then, in the same pass, by
+     * the next one, without building a DOM in between.
+     * @param xml The XML
+     * @param next The next sheet
+     * @return The result of the next sheet
+     */
+    public XML transform(final XML xml, final Sheet next) {
+        final Document target = Sheet.document();
+        try {
+            final TransformerHandler handler =
+                Sheet.FACTORY.get().newTransformerHandler(next.templates);
+            next.configure(handler.getTransformer());
+            handler.setResult(new DOMResult(target));
+            this.transform(xml.node(), new SAXResult(handler));
+        } catch (final TransformerConfigurationException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return new Dom(target);
+    }
+
+    @Override
+    public String applyTo(final XML xml) {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        this.transform(xml.node(), new StreamResult(baos));
+        return new String(baos.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Make a sheet which resolves imports by these sources.
+     *
+     * The templates of this sheet are already compiled with imports taken
+     * from the classpath, so the result is a new {@link XSLDocument}, which
+     * is compiled again, with the same text and parameters.
+     *
+     * @param sources The sources
+     * @return New sheet
+     */
+    @Override
+    public XSL with(final Sources sources) {
+        return new XSLDocument(this.text, sources, this.params, this.name);
+    }
+
+    @Override
+    public Sheet with(final String param, final Object value) {
+        final Map<String, Object> map = new HashMap<>(this.params);
+        map.put(param, value);
+        return new Sheet(this.name, this.sid, this.text, this.templates, map);
+    }
+
+    /**
+     * Transform the node into the result.
+     * @param node The node
+     * @param result The result
+     */
+    private void transform(final Node node, final Result result) {
+        try {
+            final Transformer trans = this.templates.newTransformer();
+            this.configure(trans);
+            trans.transform(new DOMSource(node), result);
+        } catch (final TransformerException ex) {
+            throw new IllegalArgumentException(
+                String.format("Failed to transform by %s", this.name),
+                ex
+            );
+        }
+    }
+
+    /**
+     * Configure the transformer made from this sheet.
+     * @param trans The transformer
+     */
+    private void configure(final Transformer trans) {
+        trans.setURIResolver(new ClasspathSources());
+        for (final Map.Entry<String, Object> ent : this.params.entrySet()) {
+            trans.setParameter(ent.getKey(), ent.getValue());
+        }
+    }
+
+    /**
+     * Make an empty DOM document.
+     * @return The document
+     */
+    private static Document document() {
+        return Sheet.BUILDER.get().newDocument();
+    }
+
+    /**
+     * Compile the text of a sheet.
+     * @param res Name of the resource in classpath
+     * @param txt The text
+     * @return Compiled templates
+     */
+    private static Templates compile(final String res, final String txt) {
+        final TransformerFactory factory = TransformerFactory.newInstance();
+        factory.setURIResolver(new ClasspathSources());
+        try {
+            return factory.newTemplates(
+                new StreamSource(new StringReader(txt), res)
+            );
+        } catch (final TransformerConfigurationException ex) {
+            throw new IllegalArgumentException(
+                String.format("Failed to compile XSL %s", res),
+                ex
+            );
+        }
+    }
+
+    /**
+     * Find the ID of the sheet, or use the name of the resource if
+     * the sheet doesn't have it.
+     * @param res Name of the resource in classpath
+     * @param txt The text
+     * @return The ID
+     */
+    private static String idOf(final String res, final String txt) {
+        final List<String> ids = new XMLDocument(txt).xpath("/*/@id");
+        String id = res;
+        if (!ids.isEmpty()) {
+            id = ids.get(0);
+        }
+        return id;
+    }
+
+}
@@ -26,27 +26,23 @@ package org.eolang.parser;
 import com.jcabi.log.Logger;
 import com.jcabi.xml.XML;
 import java.io.IOException;
-import java.util.List;
+import java.io.OutputStream;
 import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.BailErrorStrategy;
 import org.antlr.v4.runtime.BaseErrorListener;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
 import org.antlr.v4.runtime.RecognitionException;
 import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.antlr.v4.runtime.tree.ParseTreeWalker;
 import org.cactoos.Input;
 import org.cactoos.Output;
-import org.cactoos.Text;
-import org.cactoos.io.InputOf;
-import org.cactoos.io.InputStreamOf;
-import org.cactoos.io.TeeInput;
-import org.cactoos.list.ListOf;
-import org.cactoos.scalar.LengthOf;
-import org.cactoos.scalar.Unchecked;
-import org.cactoos.text.FormattedText;
-import org.cactoos.text.Joined;
-import org.cactoos.text.Split;
+import org.cactoos.io.UncheckedOutput;
 import org.cactoos.text.TextOf;
+import org.cactoos.text.UncheckedText;
 
 /**
  * Syntax parser, from EO to XMIR, using ANTLR4.
@@ -71,6 +67,11 @@ public final class Syntax {
      */
     private final Output target;
 
+    /**
+     * Validate the XMIR against the XSD schema or trust the parser?
+     */
+    private final boolean validate;
+
     /**
      * Ctor.
      *
@@ -79,9 +80,24 @@ public final class Syntax {
      * @param tgt Target
      */
     public Syntax(final String nme, final Input ipt, final Output tgt) {
+        this(nme, ipt, tgt, true);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param nme The name of it
+     * @param ipt Input text
+     * @param tgt Target
+     * @param check Validate the XMIR against the schema?
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public Syntax(final String nme, final Input ipt, final Output tgt,
+        final boolean check) {
         this.name = nme;
         this.input = ipt;
         this.target = tgt;
+        this.validate = check;
     }
 
     /**
@@ -90,7 +106,7 @@ public final class Syntax {
      * @throws IOException If fails
      */
     public void parse() throws IOException {
-        final List<Text> lines = this.lines();
+        final String text = this.normalize();
         final ANTLRErrorListener errors = new BaseErrorListener() {
             // @checkstyle ParameterNumberCheck (10 lines)
             @Override
@@ -98,12 +114,13 @@ public final class Syntax {
                 final Object symbol, final int line,
                 final int position, final String msg,
                 final RecognitionException error) {
+                final String[] lines = text.split("\n");
                 throw new ParsingException(
                     String.format(
                         "[%d:%d] %s: \"%s\"",
                         line, position, msg,
                         // @checkstyle AvoidInlineConditionalsCheck (1 line)
-                        lines.size() < line ? "EOF" : lines.get(line - 1)
+                        lines.length < line ? "EOF" : lines[line - 1]
                     ),
                     error,
                     line
@@ -111,52 +128,76 @@ public final class Syntax {
             }
         };
         final ProgramLexer lexer = new ProgramLexer(
-            CharStreams.fromStream(
-                new InputStreamOf(this.normalize())
-            )
+            CharStreams.fromString(text)
         );
         lexer.removeErrorListeners();
         lexer.addErrorListener(errors);
-        final ProgramParser parser = new ProgramParser(
-            new CommonTokenStream(lexer)
-        );
-        parser.removeErrorListeners();
-        parser.addErrorListener(errors);
         final XeListener xel = new XeListener(this.name);
-        new ParseTreeWalker().walk(xel, parser.program());
+        new ParseTreeWalker().walk(
+            xel, Syntax.program(new CommonTokenStream(lexer), errors)
+        );
         final XML dom = xel.xml();
-        new Schema(dom).check();
-        Logger.debug(this, "Raw XML:\n%s", dom.toString());
-        new Unchecked<>(
-            new LengthOf(
-                new TeeInput(
-                    new InputOf(dom.toString()),
-                    this.target
-                )
-            )
-        ).value();
-        Logger.debug(this, "Input of %d EO lines compiled", lines.size());
+        if (this.validate) {
+            new Schema(dom).check();
+        }
+        Logger.debug(this, "Raw XML:\n%s", dom);
+        try (OutputStream out = new UncheckedOutput(this.target).stream()) {
+            new Dom(dom.node()).print(out);
+        }
+        Logger.debug(
+            this, "Input of %d EO lines compiled",
+            text.length() - text.replace("\n", "").length()
+        );
     }
 
     /**
-     * Normalize input to UNIX format.
-     * Ensure EOL at EOF.
+     * Normalize input to UNIX format: replace all CRLF with LF, drop
+     * empty lines at the end, and ensure EOL at EOF.
      *
      * @return UNIX formatted text.
      */
-    private Text normalize() {
-        return new FormattedText(
-            "%s\n",
-            new Joined(new TextOf("\n"), this.lines())
-        );
+    private String normalize() {
+        final String text = new UncheckedText(
+            new TextOf(this.input)
+        ).asString().replace("\r\n", "\n");
+        int end = text.length();
+        while (end > 0 && text.charAt(end - 1) == '\n') {
+            --end;
+        }
+        return new StringBuilder(end + 1).append(text, 0, end)
+            .append('\n').toString();
     }
 
     /**
-     * Split input into lines.
-     * @return Lines without line breaks.
+     * Parse the program from tokens.
+     *
+     * First, it tries the fast SLL prediction mode, which gives up at
+     * the first error. Only if it fails, the full LL mode is used, which
+     * either parses what SLL couldn't or reports the error properly.
+     * DFA are static in the generated {@link ProgramParser}, so they are
+     * warmed up once and shared by all programs parsed in the JVM.
+     *
+     * @param tokens The tokens
+     * @param errors Error listener
+     * @return The tree
      */
-    private List<Text> lines() {
-        return new ListOf<>(new Split(new TextOf(this.input), "\r?\n"));
+    private static ProgramParser.ProgramContext program(
+        final CommonTokenStream tokens, final ANTLRErrorListener errors) {
+        final ProgramParser parser = new ProgramParser(tokens);
+        parser.removeErrorListeners();
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        parser.setErrorHandler(new BailErrorStrategy());
+        ProgramParser.ProgramContext program;
+        try {
+            program = parser.program();
+        } catch (final ParseCancellationException ex) {
+            parser.reset();
+            parser.addErrorListener(errors);
+            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+            parser.setErrorHandler(new DefaultErrorStrategy());
+            program = parser.program();
+        }
+        return program;
     }
 
 }
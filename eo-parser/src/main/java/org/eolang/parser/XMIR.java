@@ -23,10 +23,8 @@
  */
 package org.eolang.parser;
 
-import com.jcabi.xml.ClasspathSources;
 import com.jcabi.xml.XML;
 import com.jcabi.xml.XMLDocument;
-import com.jcabi.xml.XSLDocument;
 
 /**
  * Prints XMIR to EO.
@@ -72,10 +70,7 @@ public final class XMIR {
      * @return The program in EO
      */
     public String toEO() {
-        return new XSLDocument(
-            this.getClass().getResourceAsStream("xmir-to-eo.xsl"),
-            "xmir-to-eo"
-        ).with(new ClasspathSources()).applyTo(this.xml);
+        return Sheet.of("org/eolang/parser/xmir-to-eo.xsl").applyTo(this.xml);
     }
 
 }
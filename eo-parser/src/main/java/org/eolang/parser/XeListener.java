@@ -25,7 +25,6 @@ package org.eolang.parser;
 
 import com.jcabi.manifests.Manifests;
 import com.jcabi.xml.XML;
-import com.jcabi.xml.XMLDocument;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
@@ -34,8 +33,6 @@ import org.antlr.v4.runtime.tree.ErrorNode;
 import org.antlr.v4.runtime.tree.TerminalNode;
 import org.cactoos.list.Mapped;
 import org.cactoos.text.Joined;
-import org.xembly.Directives;
-import org.xembly.Xembler;
 
 /**
  * The listener for ANTLR4 walker.
@@ -51,9 +48,9 @@ public final class XeListener implements ProgramListener {
     private final String name;
 
     /**
-     * Xembly directives we are building (mutable).
+     * The cursor in the XMIR we are building (mutable).
      */
-    private final Directives dirs;
+    private final Cursor cursor;
 
     /**
      * When we start.
@@ -66,7 +63,7 @@ public final class XeListener implements ProgramListener {
      */
     public XeListener(final String nme) {
         this.name = nme;
-        this.dirs = new Directives();
+        this.cursor = new Cursor();
         this.start = System.nanoTime();
     }
 
@@ -75,12 +72,12 @@ public final class XeListener implements ProgramListener {
      * @return XML
      */
     public XML xml() {
-        return new XMLDocument(new Xembler(this.dirs).domQuietly());
+        return new Dom(this.cursor.document());
     }
 
     @Override
     public void enterProgram(final ProgramParser.ProgramContext ctx) {
-        this.dirs.add("program")
+        this.cursor.add("program")
             .attr("name", this.name)
             .attr("version", Manifests.read("EO-Version"))
             .attr(
@@ -96,7 +93,7 @@ public final class XeListener implements ProgramListener {
 
     @Override
     public void exitProgram(final ProgramParser.ProgramContext ctx) {
-        this.dirs
+        this.cursor
             // @checkstyle MagicNumber (1 line)
             .attr("ms", (System.nanoTime() - this.start) / (1000L * 1000L))
             .up();
@@ -104,7 +101,7 @@ public final class XeListener implements ProgramListener {
 
     @Override
     public void enterLicense(final ProgramParser.LicenseContext ctx) {
-        this.dirs.add("license").set(
+        this.cursor.add("license").set(
             new Joined(
                 "\n",
                 new Mapped<>(
@@ -122,24 +119,24 @@ public final class XeListener implements ProgramListener {
 
     @Override
     public void enterMetas(final ProgramParser.MetasContext ctx) {
-        this.dirs.add("metas");
+        this.cursor.add("metas");
         for (final TerminalNode node : ctx.META()) {
             final String[] pair = node.getText().split(" ", 2);
-            this.dirs.add("meta")
+            this.cursor.add("meta")
                 .attr("line", node.getSymbol().getLine())
                 .add("head").set(pair[0].substring(1)).up()
                 .add("tail");
             if (pair.length > 1) {
-                this.dirs.set(pair[1].trim()).up();
+                this.cursor.set(pair[1].trim()).up();
                 for (final String part : pair[1].trim().split(" ")) {
-                    this.dirs.add("part").set(part).up();
+                    this.cursor.add("part").set(part).up();
                 }
             } else {
-                this.dirs.up();
+                this.cursor.up();
             }
-            this.dirs.up();
+            this.cursor.up();
         }
-        this.dirs.up();
+        this.cursor.up();
     }
 
     @Override
@@ -149,12 +146,12 @@ public final class XeListener implements ProgramListener {
 
     @Override
     public void enterObjects(final ProgramParser.ObjectsContext ctx) {
-        this.dirs.add("objects");
+        this.cursor.add("objects");
     }
 
     @Override
     public void exitObjects(final ProgramParser.ObjectsContext ctx) {
-        this.dirs.up();
+        this.cursor.up();
     }
 
     @Override
@@ -169,7 +166,7 @@ public final class XeListener implements ProgramListener {
 
     @Override
     public void enterAnonymous(final ProgramParser.AnonymousContext ctx) {
-        this.dirs.add("o")
+        this.cursor.add("o")
             .attr("line", ctx.getStart().getLine())
             .up();
     }
@@ -177,20 +174,20 @@ public final class XeListener implements ProgramListener {
     @Override
     public void exitAnonymous(final ProgramParser.AnonymousContext ctx) {
         this.enter();
-        this.dirs.xpath("o[@base][1]").up().up();
+        this.cursor.up();
     }
 
     @Override
     public void enterAbstraction(final ProgramParser.AbstractionContext ctx) {
-        this.dirs.add("o").attr("line", ctx.getStart().getLine());
+        this.cursor.add("o").attr("line", ctx.getStart().getLine());
         if (ctx.SLASH() != null) {
             if (ctx.QUESTION() == null) {
-                this.dirs.attr("atom", ctx.NAME());
+                this.cursor.attr("atom", ctx.NAME());
             } else {
-                this.dirs.attr("atom", "?");
+                this.cursor.attr("atom", "?");
             }
         }
-        this.dirs.up();
+        this.cursor.up();
     }
 
     @Override
@@ -211,24 +208,24 @@ public final class XeListener implements ProgramListener {
     @Override
     public void enterAttribute(final ProgramParser.AttributeContext ctx) {
         this.enter();
-        this.dirs.add("o").attr("line", ctx.getStart().getLine());
+        this.cursor.add("o").attr("line", ctx.getStart().getLine());
     }
 
     @Override
     public void exitAttribute(final ProgramParser.AttributeContext ctx) {
-        this.dirs.up().up();
+        this.cursor.up().up();
     }
 
     @Override
     public void enterLabel(final ProgramParser.LabelContext ctx) {
         if (ctx.AT() != null) {
-            this.dirs.attr("name", ctx.AT().getText());
+            this.cursor.attr("name", ctx.AT().getText());
         }
         if (ctx.NAME() != null) {
-            this.dirs.attr("name", ctx.NAME().getText());
+            this.cursor.attr("name", ctx.NAME().getText());
         }
         if (ctx.DOTS() != null) {
-            this.dirs.attr("vararg", "");
+            this.cursor.attr("vararg", "");
         }
     }
 
@@ -244,30 +241,30 @@ public final class XeListener implements ProgramListener {
 
     @Override
     public void exitTail(final ProgramParser.TailContext ctx) {
-        this.dirs.up();
+        this.cursor.up();
     }
 
     @Override
     public void enterSuffix(final ProgramParser.SuffixContext ctx) {
         this.enter();
         if (ctx.CONST() != null) {
-            this.dirs.attr("const", "");
+            this.cursor.attr("const", "");
         }
     }
 
     @Override
     public void exitSuffix(final ProgramParser.SuffixContext ctx) {
-        this.dirs.up();
+        this.cursor.up();
     }
 
     @Override
     public void enterMethod(final ProgramParser.MethodContext ctx) {
-        this.dirs.add("o")
+        this.cursor.add("o")
             .attr("method", "")
             .attr("line", ctx.getStart().getLine())
             .attr("base", ctx.getText()).up();
         if (ctx.COPY() != null) {
-            this.dirs.attr("copy", "");
+            this.cursor.attr("copy", "");
         }
     }
 
@@ -278,51 +275,51 @@ public final class XeListener implements ProgramListener {
 
     @Override
     public void enterHead(final ProgramParser.HeadContext ctx) {
-        this.dirs.add("o").attr("line", ctx.getStart().getLine());
+        this.cursor.add("o").attr("line", ctx.getStart().getLine());
         if (ctx.NAME() != null) {
             String base = ctx.NAME().getText();
             if (ctx.DOT() != null) {
                 base = String.format(".%s", base);
             }
-            this.dirs.attr("base", base);
+            this.cursor.attr("base", base);
         }
         if (ctx.AT() != null) {
-            this.dirs.attr("base", "@");
+            this.cursor.attr("base", "@");
         }
         if (ctx.XI() != null) {
-            this.dirs.attr("base", "$");
+            this.cursor.attr("base", "$");
         }
         if (ctx.STAR() != null) {
-            this.dirs.attr("base", "array").attr("data", "array");
+            this.cursor.attr("base", "array").attr("data", "array");
         }
         if (ctx.RHO() != null) {
-            this.dirs.attr("base", "^");
+            this.cursor.attr("base", "^");
         }
         if (ctx.SIGMA() != null) {
-            this.dirs.attr("base", "&");
+            this.cursor.attr("base", "&");
         }
         if (ctx.COPY() != null) {
-            this.dirs.attr("copy", "");
+            this.cursor.attr("copy", "");
         }
     }
 
     @Override
     public void exitHead(final ProgramParser.HeadContext ctx) {
         if (ctx.DOTS() != null) {
-            this.dirs.attr("unvar", "");
+            this.cursor.attr("unvar", "");
         }
-        this.dirs.up();
+        this.cursor.up();
     }
 
     @Override
     public void enterHas(final ProgramParser.HasContext ctx) {
         this.enter();
-        this.dirs.attr("as", ctx.NAME().getText());
+        this.cursor.attr("as", ctx.NAME().getText());
     }
 
     @Override
     public void exitHas(final ProgramParser.HasContext ctx) {
-        this.dirs.up();
+        this.cursor.up();
     }
 
     @Override
@@ -342,7 +339,7 @@ public final class XeListener implements ProgramListener {
 
     @Override
     public void exitHtail(final ProgramParser.HtailContext ctx) {
-        this.dirs.up();
+        this.cursor.up();
     }
 
     // @checkstyle ExecutableStatementCountCheck (100 lines)
@@ -370,7 +367,7 @@ public final class XeListener implements ProgramListener {
         } else if (ctx.REGEX() != null) {
             type = "regex";
             data = text.substring(1, text.lastIndexOf('/'));
-            this.dirs.attr("flags", text.substring(text.lastIndexOf('/') + 1));
+            this.cursor.attr("flags", text.substring(text.lastIndexOf('/') + 1));
         } else if (ctx.HEX() != null) {
             type = "int";
             data = Long.toString(
@@ -394,9 +391,9 @@ public final class XeListener implements ProgramListener {
                 ctx.getStart().getLine()
             );
         }
-        this.dirs.attr("data", type);
-        this.dirs.attr("base", type);
-        this.dirs.set(
+        this.cursor.attr("data", type);
+        this.cursor.attr("base", type);
+        this.cursor.set(
             data
                 .replace("\n", "\\n")
                 .replace("\r", "\\r")
@@ -436,7 +433,7 @@ public final class XeListener implements ProgramListener {
      * Help method.
      */
     private void enter() {
-        this.dirs.xpath("o[last()]").strict(1);
+        this.cursor.last("o");
     }
 
     /**
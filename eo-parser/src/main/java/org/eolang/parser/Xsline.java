@@ -24,27 +24,21 @@
 package org.eolang.parser;
 
 import com.jcabi.log.Logger;
-import com.jcabi.xml.ClasspathSources;
 import com.jcabi.xml.XML;
 import com.jcabi.xml.XMLDocument;
 import com.jcabi.xml.XSL;
-import com.jcabi.xml.XSLDocument;
 import java.io.IOException;
-import java.util.AbstractMap;
+import java.io.OutputStream;
+import java.util.HashMap;
 import java.util.Map;
 import org.cactoos.BiFunc;
 import org.cactoos.Output;
 import org.cactoos.func.UncheckedBiFunc;
-import org.cactoos.io.InputOf;
-import org.cactoos.io.ResourceOf;
-import org.cactoos.io.TeeInput;
 import org.cactoos.iterable.IterableOf;
 import org.cactoos.iterable.Joined;
 import org.cactoos.list.ListOf;
 import org.cactoos.list.Mapped;
-import org.cactoos.scalar.LengthOf;
-import org.cactoos.scalar.Unchecked;
-import org.cactoos.text.TextOf;
+import org.cactoos.scalar.IoChecked;
 
 /**
  * Pipeline of XSL transformations.
@@ -67,7 +61,7 @@ public final class Xsline {
     /**
      * XSLs to use.
      */
-    private final Iterable<Map.Entry<XSL, BiFunc<XML, XML, Boolean>>> xsls;
+    private final Iterable<Xsline.Step> xsls;
 
     /**
      * The spy to use.
@@ -136,8 +130,7 @@ public final class Xsline {
      * @checkstyle ParameterNumberCheck (5 lines)
      */
     private Xsline(final XML dom, final Output tgt,
-        final Iterable<Map.Entry<XSL, BiFunc<XML, XML, Boolean>>> sheets,
-        final Spy aspy) {
+        final Iterable<Xsline.Step> sheets, final Spy aspy) {
         this.input = dom;
         this.target = tgt;
         this.xsls = sheets;
@@ -170,11 +163,8 @@ public final class Xsline {
             this.input, this.target,
             new Joined<>(
                 this.xsls,
-                new IterableOf<Map.Entry<XSL, BiFunc<XML, XML, Boolean>>>(
-                    new AbstractMap.SimpleEntry<>(
-                        sheet,
-                        (before, after) -> false
-                    )
+                new IterableOf<Xsline.Step>(
+                    new Xsline.Step(sheet, (before, after) -> false)
                 )
             ),
             this.spy
@@ -194,9 +184,7 @@ public final class Xsline {
             this.input, this.target,
             new Joined<>(
                 this.xsls,
-                new IterableOf<Map.Entry<XSL, BiFunc<XML, XML, Boolean>>>(
-                    new AbstractMap.SimpleEntry<>(sheet, func)
-                )
+                new IterableOf<Xsline.Step>(new Xsline.Step(sheet, func))
             ),
             this.spy
         );
@@ -208,45 +196,66 @@ public final class Xsline {
      * @throws IOException If fails
      */
     public void pass() throws IOException {
-        final XSL each = new XSLDocument(
-            Xsline.class.getResourceAsStream("_each.xsl")
-        ).with(new ClasspathSources(Xsline.class));
+        final Sheet each = Sheet.of("org/eolang/parser/_each.xsl");
+        final long start = System.currentTimeMillis();
+        final Map<String, Integer> kinds = new HashMap<>(0);
         int index = 0;
-        XML before = this.input;
-        for (final Map.Entry<XSL, BiFunc<XML, XML, Boolean>> pair : this.xsls) {
-            final XSL xsl = pair.getKey();
+        XML before = new Dom(this.input.node());
+        for (final Xsline.Step step : this.xsls) {
             final UncheckedBiFunc<XML, XML, Boolean> func =
-                new UncheckedBiFunc<>(pair.getValue());
-            final XML dom = new XMLDocument(xsl.toString());
+                new UncheckedBiFunc<>(step.again);
             boolean more;
             do {
-                final String sid = dom.xpath("/*/@id").get(0);
                 final XML after;
                 try {
-                    after = each.with("step", index)
-                        .with("sheet", sid)
-                        .transform(xsl.transform(before));
+                    final String kind = step.kind(before);
+                    kinds.merge(kind, 1, Integer::sum);
+                    if (Xsline.Step.CHECK.equals(kind)) {
+                        after = new Dom(
+                            new InPlace(before.node())
+                                .check(Sheet.class.cast(step.xsl))
+                                .stamp(index, step.sid)
+                        );
+                    } else if (Xsline.Step.JAVA.equals(kind)) {
+                        Sheet.class.cast(step.xsl).rewrite(before.node());
+                        after = new Dom(
+                            new InPlace(before.node()).stamp(index, step.sid)
+                        );
+                    } else if (Xsline.Step.SKIP.equals(kind)) {
+                        after = new Dom(
+                            new InPlace(before.node()).stamp(index, step.sid)
+                        );
+                    } else {
+                        after = step.apply(
+                            before,
+                            each.with("step", index).with("sheet", step.sid)
+                        );
+                    }
                 } catch (final IllegalArgumentException ex) {
                     Logger.error(this, "The error happened here:%n%s", before);
                     throw new IllegalArgumentException(
-                        String.format("XSL failure in '%s'", sid),
+                        String.format("XSL failure in '%s'", step.sid),
                         ex
                     );
                 }
-                this.spy.push(index, xsl, after);
+                this.spy.push(index, step.xsl, after);
                 ++index;
                 more = func.apply(before, after);
                 before = after;
             } while (more);
         }
-        new Unchecked<>(
-            new LengthOf(
-                new TeeInput(
-                    new InputOf(before.toString()),
-                    this.target
-                )
-            )
-        ).value();
+        try (OutputStream stream = new IoChecked<>(this.target::stream).value()) {
+            new Dom(before.node()).print(stream);
+        }
+        Logger.debug(
+            this,
+            "%d steps done in %[ms]s: %d full passes, %d checks in place, %d in Java, %d skipped",
+            index, System.currentTimeMillis() - start,
+            kinds.getOrDefault(Xsline.Step.PASS, 0),
+            kinds.getOrDefault(Xsline.Step.CHECK, 0),
+            kinds.getOrDefault(Xsline.Step.JAVA, 0),
+            kinds.getOrDefault(Xsline.Step.SKIP, 0)
+        );
     }
 
     /**
@@ -254,20 +263,118 @@ public final class Xsline {
      * @param sheets Names
      * @return Objects
      */
-    private static Iterable<Map.Entry<XSL, BiFunc<XML, XML, Boolean>>> mapped(
-        final Iterable<String> sheets) {
+    private static Iterable<Xsline.Step> mapped(final Iterable<String> sheets) {
         return new Mapped<>(
-            name -> new AbstractMap.SimpleEntry<>(
-                new XSLDocument(
-                    new TextOf(
-                        new ResourceOf(name)
-                    ).asString(),
-                    name
-                ).with(new ClasspathSources()),
-                (before, after) -> false
-            ),
+            name -> {
+                final Sheet sheet = Sheet.of(name);
+                return new Xsline.Step(
+                    sheet, sheet.id(), (before, after) -> false
+                );
+            },
             sheets
         );
     }
 
+    /**
+     * One step of the pipeline.
+     *
+     * @since 0.22
+     */
+    private static final class Step {
+
+        /**
+         * The step is a full transformation.
+         */
+        private static final String PASS = "pass";
+
+        /**
+         * The step is a checker, applied in place.
+         */
+        private static final String CHECK = "check";
+
+        /**
+         * The step can't change anything and is skipped.
+         */
+        private static final String SKIP = "skip";
+
+        /**
+         * The step is done by a Java implementation of the sheet, in place.
+         */
+        private static final String JAVA = "java";
+
+        /**
+         * The sheet.
+         */
+        private final XSL xsl;
+
+        /**
+         * The ID of the sheet.
+         */
+        private final String sid;
+
+        /**
+         * The func that returns TRUE if the XSL has to be applied again.
+         */
+        private final BiFunc<XML, XML, Boolean> again;
+
+        /**
+         * Ctor.
+         * @param sheet The sheet
+         * @param func The func
+         */
+        Step(final XSL sheet, final BiFunc<XML, XML, Boolean> func) {
+            this(sheet, new XMLDocument(sheet.toString()).xpath("/*/@id").get(0), func);
+        }
+
+        /**
+         * Ctor.
+         * @param sheet The sheet
+         * @param id The ID of it
+         * @param func The func
+         */
+        Step(final XSL sheet, final String id,
+            final BiFunc<XML, XML, Boolean> func) {
+            this.xsl = sheet;
+            this.sid = id;
+            this.again = func;
+        }
+
+        /**
+         * How this step has to be applied to the XML.
+         * @param xml The XML
+         * @return One of: PASS, CHECK, or SKIP
+         */
+        public String kind(final XML xml) {
+            String kind = Xsline.Step.PASS;
+            if (this.xsl instanceof Sheet) {
+                final Sheet sheet = Sheet.class.cast(this.xsl);
+                if (sheet.checker()) {
+                    kind = Xsline.Step.CHECK;
+                } else if (sheet.idle(xml.node())) {
+                    kind = Xsline.Step.SKIP;
+                } else if (sheet.rewritable()) {
+                    kind = Xsline.Step.JAVA;
+                }
+            }
+            return kind;
+        }
+
+        /**
+         * Apply the sheet and then the stamping sheet, in one pass, if
+         * possible.
+         * @param xml The XML to transform
+         * @param each The sheet that stamps errors with steps and sheets
+         * @return The XML produced
+         */
+        public XML apply(final XML xml, final Sheet each) {
+            final XML out;
+            if (this.xsl instanceof Sheet) {
+                out = Sheet.class.cast(this.xsl).transform(xml, each);
+            } else {
+                out = each.transform(this.xsl.transform(xml));
+            }
+            return out;
+        }
+    }
+
 }
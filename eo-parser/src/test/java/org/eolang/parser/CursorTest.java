@@ -0,0 +1,63 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2021 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.parser;
+
+import com.jcabi.matchers.XhtmlMatchers;
+import org.hamcrest.MatcherAssert;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Cursor}.
+ *
+ * @since 0.22
+ */
+public final class CursorTest {
+
+    @Test
+    public void buildsDocument() {
+        final Cursor cursor = new Cursor()
+            .add("program").attr("name", "foo")
+            .add("o").attr("line", 1).up()
+            .add("o").attr("line", 2).up();
+        cursor.last("o").add("o").set("hello").up().up().attr("ms", 0L);
+        MatcherAssert.assertThat(
+            new Dom(cursor.document()).toString(),
+            XhtmlMatchers.hasXPaths(
+                "/program[@name='foo' and @ms='0' and count(o)=2]",
+                "/program/o[@line='2']/o[.='hello']",
+                "/program/o[@line='1' and not(o)]"
+            )
+        );
+    }
+
+    @Test
+    public void rejectsIllegalCharacters() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new Cursor().add("listing").set("\u0001")
+        );
+    }
+
+}
@@ -0,0 +1,64 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2021 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.parser;
+
+import com.jcabi.matchers.XhtmlMatchers;
+import com.jcabi.xml.XMLDocument;
+import org.hamcrest.MatcherAssert;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Node;
+
+/**
+ * Test case for {@link InPlace}.
+ *
+ * @since 0.22
+ */
+public final class InPlaceTest {
+
+    @Test
+    public void checksInPlace() {
+        final Node node = new XMLDocument(
+            String.join(
+                "",
+                "<program><sheets/><errors/><objects>",
+                "<o name='a' line='1'/><o name='a' line='2'/>",
+                "</objects></program>"
+            )
+        ).node();
+        MatcherAssert.assertThat(
+            new XMLDocument(
+                new InPlace(node)
+                    .check(Sheet.of("org/eolang/parser/errors/duplicate-names.xsl"))
+                    .stamp(3, "duplicate-names")
+            ),
+            XhtmlMatchers.hasXPaths(
+                "/program/errors[count(error)=1]",
+                "/program/errors/error[@line='2' and @step='3' and @sheet='duplicate-names']",
+                "/program/sheets[count(sheet)=1]/sheet[.='duplicate-names']",
+                "/program/objects[count(o)=2]"
+            )
+        );
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2021 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.parser;
+
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.cactoos.io.OutputTo;
+import org.cactoos.io.ResourceOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Schema}.
+ *
+ * @since 0.22
+ */
+public final class SchemaTest {
+
+    @Test
+    public void acceptsValidXmirInManyThreads() throws Exception {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        new Syntax(
+            "fibo",
+            new ResourceOf("org/eolang/parser/fibonacci.eo"),
+            new OutputTo(baos),
+            false
+        ).parse();
+        final XML xmir = new XMLDocument(baos.toByteArray());
+        final Collection<Callable<Boolean>> tasks = new ArrayList<>(0);
+        for (int idx = 0; idx < 16; ++idx) {
+            tasks.add(
+                () -> {
+                    new Schema(xmir).check();
+                    return true;
+                }
+            );
+        }
+        final ExecutorService service = Executors.newFixedThreadPool(4);
+        try {
+            for (final Future<Boolean> done : service.invokeAll(tasks)) {
+                MatcherAssert.assertThat(done.get(), Matchers.is(true));
+            }
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    public void rejectsBrokenXmir() {
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> new Schema(new XMLDocument("<program><foo/></program>")).check()
+        );
+    }
+
+}
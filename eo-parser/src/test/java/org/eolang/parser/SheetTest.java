@@ -0,0 +1,121 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2021 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.parser;
+
+import com.jcabi.matchers.XhtmlMatchers;
+import com.jcabi.xml.ClasspathSources;
+import com.jcabi.xml.XMLDocument;
+import com.jcabi.xml.XSL;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Sheet}.
+ *
+ * @since 0.22
+ */
+public final class SheetTest {
+
+    @Test
+    public void compilesOnlyOnce() {
+        MatcherAssert.assertThat(
+            Sheet.of("org/eolang/parser/add-refs.xsl"),
+            Matchers.sameInstance(Sheet.of("org/eolang/parser/add-refs.xsl"))
+        );
+    }
+
+    @Test
+    public void readsIdOfSheet() {
+        MatcherAssert.assertThat(
+            Sheet.of("org/eolang/parser/errors/broken-refs.xsl").id(),
+            Matchers.equalTo("broken-refs")
+        );
+    }
+
+    @Test
+    public void transformsWithParams() {
+        final XSL each = Sheet.of("org/eolang/parser/_each.xsl");
+        MatcherAssert.assertThat(
+            each.with("step", 7).with("sheet", "foo").transform(
+                new XMLDocument("<program><sheets/><errors><error/></errors></program>")
+            ),
+            XhtmlMatchers.hasXPaths(
+                "/program/sheets/sheet[.='foo']",
+                "/program/errors/error[@step='7' and @sheet='foo']"
+            )
+        );
+        MatcherAssert.assertThat(
+            each.transform(new XMLDocument("<program><sheets/></program>")).nodes(
+                "/program/sheets/sheet[.='foo']"
+            ),
+            Matchers.empty()
+        );
+    }
+
+    @Test
+    public void transformsWithOtherSources() {
+        MatcherAssert.assertThat(
+            Sheet.of("org/eolang/parser/_each.xsl")
+                .with("step", 3)
+                .with(new ClasspathSources())
+                .with("sheet", "bar")
+                .transform(new XMLDocument("<program><sheets/></program>")),
+            XhtmlMatchers.hasXPaths("/program/sheets/sheet[.='bar']")
+        );
+    }
+
+    @Test
+    public void chainsTwoSheetsInOnePass() {
+        final Sheet refs = Sheet.of("org/eolang/parser/add-refs.xsl");
+        final Sheet each = Sheet.of("org/eolang/parser/_each.xsl")
+            .with("step", 1).with("sheet", refs.id());
+        final String xml = String.join(
+            "",
+            "<program><sheets/><errors/><objects>",
+            "<o name='a' line='1'/><o base='a' line='2'/>",
+            "</objects></program>"
+        );
+        MatcherAssert.assertThat(
+            refs.transform(new XMLDocument(xml), each).toString(),
+            Matchers.equalTo(
+                each.transform(refs.transform(new XMLDocument(xml))).toString()
+            )
+        );
+    }
+
+    @Test
+    public void knowsWhenItCantChangeAnything() {
+        final Sheet sheet = Sheet.of("org/eolang/parser/wrap-method-calls.xsl");
+        MatcherAssert.assertThat(
+            sheet.idle(new XMLDocument("<program><objects><o base='a'/></objects></program>").node()),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            sheet.idle(new XMLDocument("<program><objects><o method='.b'/></objects></program>").node()),
+            Matchers.is(false)
+        );
+    }
+
+}
@@ -0,0 +1,156 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2021 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.parser;
+
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Map;
+import org.cactoos.io.InputOf;
+import org.cactoos.io.OutputTo;
+import org.cactoos.io.ResourceOf;
+import org.cactoos.text.TextOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.w3c.dom.Document;
+import org.yaml.snakeyaml.Yaml;
+
+/**
+ * Test case for {@link Shortcut}: Java implementations must produce
+ * exactly what their sheets produce, for all programs in packs.
+ *
+ * @since 0.22
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ */
+public final class ShortcutTest {
+
+    @ParameterizedTest
+    @MethodSource("packs")
+    public void addsRefsAsSheetDoes(final String pack) throws Exception {
+        ShortcutTest.compare(
+            ShortcutTest.parse(pack),
+            Sheet.of("org/eolang/parser/add-refs.xsl"),
+            new AddRefs()
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("packs")
+    public void resolvesAliasesAsSheetDoes(final String pack) throws Exception {
+        final XML xml = ShortcutTest.parse(pack);
+        XML refs;
+        try {
+            refs = Sheet.of("org/eolang/parser/add-refs.xsl").transform(xml);
+        } catch (final IllegalArgumentException ex) {
+            refs = xml;
+        }
+        ShortcutTest.compare(
+            refs,
+            Sheet.of("org/eolang/parser/resolve-aliases.xsl"),
+            new ResolveAliases()
+        );
+    }
+
+    /**
+     * Apply the sheet and the shortcut and compare results.
+     * @param xml The XML
+     * @param sheet The sheet
+     * @param shortcut The shortcut
+     */
+    private static void compare(final XML xml, final Sheet sheet,
+        final Shortcut shortcut) {
+        final Document copy = Document.class.cast(xml.node());
+        String expected = "";
+        try {
+            expected = sheet.transform(xml).toString();
+        } catch (final IllegalArgumentException ex) {
+            Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> shortcut.apply(copy)
+            );
+        }
+        if (!expected.isEmpty()) {
+            shortcut.apply(copy);
+            MatcherAssert.assertThat(
+                new Dom(copy).toString(),
+                Matchers.equalTo(expected)
+            );
+        }
+    }
+
+    /**
+     * Parse the EO program from the pack.
+     * @param pack The pack
+     * @return XMIR
+     * @throws IOException If fails
+     */
+    @SuppressWarnings("unchecked")
+    private static XML parse(final String pack) throws IOException {
+        final Map<String, Object> map = new Yaml().load(
+            new TextOf(
+                new ResourceOf(String.format("org/eolang/parser/packs/%s", pack))
+            ).asString()
+        );
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        new Syntax(
+            "scenario",
+            new InputOf(String.format("%s\n", map.get("eo"))),
+            new OutputTo(baos)
+        ).parse();
+        return new XMLDocument(baos.toByteArray());
+    }
+
+    @SuppressWarnings("PMD.UnusedPrivateMethod")
+    private static Collection<String> packs() throws IOException {
+        return ShortcutTest.yamls("org/eolang/parser/packs/", "");
+    }
+
+    private static Collection<String> yamls(final String path,
+        final String prefix) throws IOException {
+        final Collection<String> out = new LinkedList<>();
+        final String[] paths = new TextOf(
+            new ResourceOf(path)
+        ).asString().split("\n");
+        for (final String sub : paths) {
+            if (sub.endsWith(".yaml")) {
+                out.add(String.format("%s%s", prefix, sub));
+            } else {
+                out.addAll(
+                    ShortcutTest.yamls(
+                        String.format("%s%s/", path, sub),
+                        String.format("%s/", sub)
+                    )
+                );
+            }
+        }
+        return out;
+    }
+
+}
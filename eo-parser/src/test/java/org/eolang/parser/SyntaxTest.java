@@ -32,6 +32,7 @@ import org.cactoos.io.InputOf;
 import org.cactoos.io.OutputTo;
 import org.cactoos.io.ResourceOf;
 import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -129,4 +130,19 @@ public final class SyntaxTest {
         );
     }
 
+    @Test
+    public void reportsBrokenLine() {
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                ParsingException.class,
+                new Syntax(
+                    "test-line",
+                    new InputOf("1 > x\r\n2 > y\r\n^ > ^\r\n\r\n"),
+                    new DeadOutput()
+                )::parse
+            ).getMessage(),
+            Matchers.startsWith("[3:")
+        );
+    }
+
 }
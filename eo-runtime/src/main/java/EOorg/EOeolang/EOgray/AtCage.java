@@ -24,20 +24,26 @@
 
 package EOorg.EOeolang.EOgray;
 
+import java.util.concurrent.atomic.AtomicReference;
 import org.eolang.Attr;
 import org.eolang.Phi;
 
 /**
  * CAGE attribute.
  *
+ * The attribute is thread-safe: the object and its version are
+ * kept together in an immutable slot, which is swapped atomically. Every
+ * successful write increments the version, so that readers may detect
+ * that they are looking at a stale object.
+ *
  * @since 0.19
  */
 final class AtCage implements Attr {
 
     /**
-     * The object being caged.
+     * The object being caged, together with its version.
      */
-    private Phi object;
+    private final AtomicReference<AtCage.Slot> slot;
 
     /**
      * Ctor.
@@ -46,57 +52,63 @@ final class AtCage implements Attr {
      * that there is nothing yet in the cage.
      */
     AtCage() {
-        this(null);
+        this(new AtCage.Slot(null, 0L));
     }
 
     /**
      * Ctor, needed for copying.
-     * @param obj New object
+     * @param slt The slot
      */
-    private AtCage(final Phi obj) {
-        this.object = obj;
+    private AtCage(final AtCage.Slot slt) {
+        this.slot = new AtomicReference<>(slt);
     }
 
     @Override
     public Attr copy(final Phi self) {
-        return new AtCage(this.object);
+        return new AtCage(this.slot.get());
     }
 
     @Override
     public Phi get() {
-        if (this.object == null) {
+        final Phi object = this.slot.get().object;
+        if (object == null) {
             throw new Attr.IllegalAttrException(
                 "The cage is empty, can't read it"
             );
         }
-        return this.object;
+        return object;
     }
 
     @Override
     public void put(final Phi phi) {
-        this.object = phi;
+        AtCage.notNull(phi);
+        this.slot.updateAndGet(
+            before -> new AtCage.Slot(phi, before.version + 1L)
+        );
     }
 
     @Override
     public String φTerm() {
+        final Phi object = this.slot.get().object;
         final String txt;
-        if (this.object == null) {
+        if (object == null) {
             txt = "Ø";
         } else {
-            txt = this.object.φTerm();
+            txt = object.φTerm();
         }
         return txt;
     }
 
     @Override
     public String toString() {
+        final AtCage.Slot current = this.slot.get();
         final String txt;
-        if (this.object == null) {
+        if (current.object == null) {
             txt = "NULL";
         } else {
-            txt = this.object.toString();
+            txt = current.object.toString();
         }
-        return String.format("%d->%s", this.hashCode(), txt);
+        return String.format("%d->%s#%d", this.hashCode(), txt, current.version);
     }
 
     /**
@@ -104,6 +116,85 @@ final class AtCage implements Attr {
      * @return TRUE if empty
      */
     public boolean isEmpty() {
-        return this.object == null;
+        return this.slot.get().object == null;
+    }
+
+    /**
+     * The version of the object in the cage.
+     *
+     * It is zero for an empty cage and grows by one with every write.
+     *
+     * @return The version
+     */
+    public long version() {
+        return this.slot.get().version;
+    }
+
+    /**
+     * Put a new object in, but only if the version of the cage
+     * is still the expected one (compare-and-set).
+     *
+     * @param expected The version expected to be in the cage now
+     * @param phi The object to put
+     * @return TRUE if the object was put, FALSE if the cage was
+     *  modified by someone else in the meantime
+     */
+    public boolean cas(final long expected, final Phi phi) {
+        AtCage.notNull(phi);
+        boolean done = false;
+        while (true) {
+            final AtCage.Slot before = this.slot.get();
+            if (before.version != expected) {
+                break;
+            }
+            if (this.slot.compareAndSet(
+                before, new AtCage.Slot(phi, before.version + 1L)
+            )) {
+                done = true;
+                break;
+            }
+        }
+        return done;
+    }
+
+    /**
+     * Make sure the object is not NULL, since an empty cage can't be
+     * made by writing to it.
+     * @param phi The object
+     */
+    private static void notNull(final Phi phi) {
+        if (phi == null) {
+            throw new Attr.IllegalAttrException(
+                "Can't put NULL into the cage"
+            );
+        }
+    }
+
+    /**
+     * The object and its version.
+     *
+     * @since 0.22
+     */
+    private static final class Slot {
+
+        /**
+         * The object, or NULL if the cage is empty.
+         */
+        private final Phi object;
+
+        /**
+         * The version.
+         */
+        private final long version;
+
+        /**
+         * Ctor.
+         * @param obj The object
+         * @param ver The version
+         */
+        Slot(final Phi obj, final long ver) {
+            this.object = obj;
+            this.version = ver;
+        }
     }
 }
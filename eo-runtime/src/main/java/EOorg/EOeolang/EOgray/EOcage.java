@@ -28,6 +28,7 @@ import org.eolang.AtComposite;
 import org.eolang.AtFree;
 import org.eolang.Attr;
 import org.eolang.Data;
+import org.eolang.Dataized;
 import org.eolang.PhDefault;
 import org.eolang.Phi;
 import org.eolang.XmirObject;
@@ -45,6 +46,16 @@ public class EOcage extends PhDefault {
         this.add("φ", new AtCage());
         this.add("write", new AtComposite(this, EOcage.Write::new));
         this.add("is-empty", new AtComposite(this, EOcage.IsEmpty::new));
+        this.add("version", new AtComposite(this, EOcage.Version::new));
+        this.add("cas", new AtComposite(this, EOcage.Cas::new));
+    }
+
+    /**
+     * The attribute with the caged object.
+     * @return The attribute
+     */
+    private AtCage cage() {
+        return AtCage.class.cast(this.declared("φ"));
     }
 
     @XmirObject(oname = "cage.write")
@@ -66,12 +77,44 @@ public class EOcage extends PhDefault {
     private final class IsEmpty extends PhDefault {
         IsEmpty(final Phi sigma) {
             super(sigma);
+            final AtCage attr = EOcage.class.cast(sigma).cage();
+            this.add("φ", new AtComposite(
+                this, rho -> new Data.ToPhi(attr.isEmpty())
+            ));
+        }
+    }
+
+    @XmirObject(oname = "cage.version")
+    private final class Version extends PhDefault {
+        Version(final Phi sigma) {
+            super(sigma);
+            final AtCage attr = EOcage.class.cast(sigma).cage();
             this.add("φ", new AtComposite(
-                this, rho -> new Data.ToPhi(
-                    AtCage.class.cast(rho.attr("σ").get().attr("φ")).isEmpty()
-                )
+                this, rho -> new Data.ToPhi(attr.version())
             ));
         }
     }
 
+    @XmirObject(oname = "cage.cas")
+    private final class Cas extends PhDefault {
+        Cas(final Phi sigma) {
+            super(sigma);
+            final EOcage owner = EOcage.class.cast(sigma);
+            final AtCage attr = owner.cage();
+            this.add("v", new AtFree());
+            this.add("x", new AtFree());
+            this.add("φ", new AtComposite(this, rho -> {
+                final Phi obj = rho.attr("x").get();
+                final boolean done = attr.cas(
+                    new Dataized(rho.attr("v").get()).take(Long.class),
+                    obj
+                );
+                if (done) {
+                    owner.reset();
+                }
+                return new Data.ToPhi(done);
+            }));
+        }
+    }
+
 }
@@ -24,6 +24,7 @@
 
 package EOorg.EOeolang;
 
+import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicReference;
 import org.eolang.AtComposite;
 import org.eolang.AtFree;
@@ -37,36 +38,48 @@ import org.eolang.XmirObject;
 /**
  * MEMORY.
  *
+ * The data is stored as it comes from dataization, without making an
+ * object out of it. The object is made only when the memory is read,
+ * and only once per write.
+ *
  * @since 1.0
  */
 @XmirObject(oname = "memory")
 public class EOmemory extends PhDefault {
 
-    private AtomicReference<Phi> phi;
+    private final AtomicReference<EOmemory.Slot> slot;
 
     public EOmemory(final Phi sigma) {
         super(sigma);
-        this.phi = new AtomicReference<>();
-        this.add("φ", new AtComposite(this, rho -> {
-            final Phi object = this.phi.get();
-            if (object == null) {
-                throw new Attr.IllegalAttrException(
-                    "The memory is not yet written"
-                );
-            }
-            return object;
-        }));
+        this.slot = new AtomicReference<>();
+        this.add("φ", new AtComposite(this, rho -> this.written().phi()));
         this.add("write", new AtComposite(this, EOmemory.Write::new));
         this.add("is-empty", new AtComposite(this, EOmemory.IsEmpty::new));
+        this.add("add-and-get", new AtComposite(this, EOmemory.AddAndGet::new));
+        this.add("cas", new AtComposite(this, EOmemory.Cas::new));
     }
 
     @Override
     public String toString() {
         return this.toStringWith(
-            String.format("▸memoized=%d->%s", this.phi.hashCode(), this.phi.get())
+            String.format("▸memoized=%d->%s", this.slot.hashCode(), this.slot.get())
         );
     }
 
+    /**
+     * The slot, which must already be written.
+     * @return The slot
+     */
+    private EOmemory.Slot written() {
+        final EOmemory.Slot current = this.slot.get();
+        if (current == null) {
+            throw new Attr.IllegalAttrException(
+                "The memory is not yet written"
+            );
+        }
+        return current;
+    }
+
     @XmirObject(oname = "memory.write")
     private final class Write extends PhDefault {
         Write(final Phi sigma) {
@@ -76,7 +89,7 @@ public class EOmemory extends PhDefault {
                 final Object obj = new Dataized(
                     rho.attr("x").get()
                 ).take();
-                EOmemory.this.phi.set(new Data.ToPhi(obj));
+                EOmemory.this.slot.set(new EOmemory.Slot(obj));
                 return new Data.ToPhi(true);
             }));
         }
@@ -87,9 +100,140 @@ public class EOmemory extends PhDefault {
         IsEmpty(final Phi sigma) {
             super(sigma);
             this.add("φ", new AtComposite(
-                this, rho -> new Data.ToPhi(EOmemory.this.phi.get() == null)
+                this, rho -> new Data.ToPhi(EOmemory.this.slot.get() == null)
             ));
         }
     }
 
+    @XmirObject(oname = "memory.add-and-get")
+    private final class AddAndGet extends PhDefault {
+        AddAndGet(final Phi sigma) {
+            super(sigma);
+            this.add("x", new AtFree());
+            this.add("φ", new AtComposite(this, rho -> {
+                final Object delta = new Dataized(
+                    rho.attr("x").get()
+                ).take();
+                EOmemory.this.written();
+                return EOmemory.this.slot.updateAndGet(
+                    before -> before.plus(delta)
+                ).phi();
+            }));
+        }
+    }
+
+    @XmirObject(oname = "memory.cas")
+    private final class Cas extends PhDefault {
+        Cas(final Phi sigma) {
+            super(sigma);
+            this.add("e", new AtFree());
+            this.add("x", new AtFree());
+            this.add("φ", new AtComposite(this, rho -> {
+                final Object expected = new Dataized(
+                    rho.attr("e").get()
+                ).take();
+                final EOmemory.Slot after = new EOmemory.Slot(
+                    new Dataized(rho.attr("x").get()).take()
+                );
+                boolean done = false;
+                while (true) {
+                    final EOmemory.Slot before = EOmemory.this.written();
+                    if (!before.holds(expected)) {
+                        break;
+                    }
+                    if (EOmemory.this.slot.compareAndSet(before, after)) {
+                        done = true;
+                        break;
+                    }
+                }
+                return new Data.ToPhi(done);
+            }));
+        }
+    }
+
+    /**
+     * The data in memory.
+     *
+     * @since 0.22
+     */
+    private static final class Slot {
+
+        /**
+         * The data.
+         */
+        private final Object data;
+
+        /**
+         * The object made of the data, when it's needed.
+         */
+        private final AtomicReference<Phi> object;
+
+        /**
+         * Ctor.
+         * @param obj The data
+         */
+        Slot(final Object obj) {
+            this.data = obj;
+            this.object = new AtomicReference<>();
+        }
+
+        @Override
+        public String toString() {
+            return new Data.Value<>(this.data).toString();
+        }
+
+        /**
+         * Make an object out of the data, only once.
+         * @return The object
+         */
+        public Phi phi() {
+            Phi phi = this.object.get();
+            if (phi == null) {
+                phi = new Data.ToPhi(this.data);
+                if (!this.object.compareAndSet(null, phi)) {
+                    phi = this.object.get();
+                }
+            }
+            return phi;
+        }
+
+        /**
+         * Does it hold exactly this data?
+         * @param obj The data
+         * @return TRUE if equal
+         */
+        public boolean holds(final Object obj) {
+            final boolean same;
+            if (this.data instanceof byte[] && obj instanceof byte[]) {
+                same = Arrays.equals(byte[].class.cast(this.data), byte[].class.cast(obj));
+            } else {
+                same = this.data.equals(obj);
+            }
+            return same;
+        }
+
+        /**
+         * Make a new slot with the data added to this one.
+         * @param delta The data to add
+         * @return New slot
+         */
+        public EOmemory.Slot plus(final Object delta) {
+            final Object sum;
+            if (this.data instanceof Long && delta instanceof Long) {
+                sum = Long.class.cast(this.data) + Long.class.cast(delta);
+            } else if (this.data instanceof Double && delta instanceof Double) {
+                sum = Double.class.cast(this.data) + Double.class.cast(delta);
+            } else {
+                throw new IllegalArgumentException(
+                    String.format(
+                        "Can't add %s to %s in memory",
+                        delta.getClass().getCanonicalName(),
+                        this.data.getClass().getCanonicalName()
+                    )
+                );
+            }
+            return new EOmemory.Slot(sum);
+        }
+    }
+
 }
@@ -252,6 +252,36 @@ public abstract class PhDefault implements Phi, Cloneable {
         this.attrs.put(name, attr);
     }
 
+    /**
+     * Get the attribute exactly as it was added, without any wrappers.
+     *
+     * This method can only be called from child classes, which need
+     * their own attributes, like a cage needs its {@code AtCage}.
+     *
+     * @param name The name
+     * @return The attr
+     * @since 0.22
+     */
+    protected final Attr declared(final String name) {
+        final Attr attr = this.attrs.get(name);
+        if (attr == null) {
+            throw new Attr.IllegalAttrException(
+                String.format("There is no attribute \"%s\" declared", name)
+            );
+        }
+        return attr;
+    }
+
+    /**
+     * Forget the cached \phi, because the object behind it has been
+     * changed not by put() of its attribute.
+     *
+     * @since 0.22
+     */
+    protected final void reset() {
+        this.cached.reset();
+    }
+
     /**
      * Make named attribute.
      * @param attr The original attr
@@ -24,7 +24,14 @@
 package EOorg.EOeolang.EOgray;
 
 import EOorg.EOeolang.EOseq;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.eolang.AtFree;
+import org.eolang.Attr;
 import org.eolang.Data;
 import org.eolang.Dataized;
 import org.eolang.PhCopy;
@@ -34,6 +41,7 @@ import org.eolang.PhWith;
 import org.eolang.Phi;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -53,6 +61,15 @@ public final class EOcageTest {
         );
     }
 
+    @Test
+    public void refusesToPutNull() {
+        final Phi cage = new EOcage(Phi.Φ);
+        Assertions.assertThrows(
+            Attr.IllegalAttrException.class,
+            () -> cage.attr("φ").put(null)
+        );
+    }
+
     @Test
     public void emptyCageHasIdentity() {
         final Phi cage = new EOcage(Phi.Φ);
@@ -161,6 +178,135 @@ public final class EOcageTest {
         );
     }
 
+    @Test
+    public void countsVersions() {
+        final Phi cage = new EOcage(Phi.Φ);
+        MatcherAssert.assertThat(
+            new Dataized(new PhMethod(cage, "version")).take(Long.class),
+            Matchers.equalTo(0L)
+        );
+        EOcageTest.writeTo(cage, new Data.ToPhi(1L));
+        EOcageTest.writeTo(cage, new Data.ToPhi(2L));
+        MatcherAssert.assertThat(
+            new Dataized(new PhMethod(cage, "version")).take(Long.class),
+            Matchers.equalTo(2L)
+        );
+    }
+
+    @Test
+    public void comparesAndSets() {
+        final Phi cage = new EOcage(Phi.Φ);
+        EOcageTest.writeTo(cage, new Data.ToPhi(1L));
+        MatcherAssert.assertThat(
+            EOcageTest.casTo(cage, 1L, new Data.ToPhi(2L)),
+            Matchers.equalTo(true)
+        );
+        MatcherAssert.assertThat(
+            EOcageTest.casTo(cage, 1L, new Data.ToPhi(3L)),
+            Matchers.equalTo(false)
+        );
+        MatcherAssert.assertThat(
+            new Dataized(cage).take(Long.class),
+            Matchers.equalTo(2L)
+        );
+    }
+
+    @Test
+    public void forgetsCachedAttributesAfterCas() {
+        final Phi cage = new EOcage(Phi.Φ);
+        EOcageTest.writeTo(
+            cage,
+            new PhWith(new EOcageTest.Dummy(Phi.Φ), 0, new Data.ToPhi(1L))
+        );
+        new Dataized(new PhMethod(cage, "x")).take();
+        EOcageTest.casTo(
+            cage, 1L,
+            new PhWith(new EOcageTest.Dummy(Phi.Φ), 0, new Data.ToPhi(7L))
+        );
+        MatcherAssert.assertThat(
+            new Dataized(new PhMethod(cage, "x")).take(Long.class),
+            Matchers.equalTo(7L)
+        );
+    }
+
+    @Test
+    public void keepsVersionsOfCopiesApart() {
+        final Phi cage = new EOcage(Phi.Φ);
+        EOcageTest.writeTo(cage, new Data.ToPhi(1L));
+        final Phi copy = cage.copy();
+        EOcageTest.writeTo(copy, new Data.ToPhi(2L));
+        MatcherAssert.assertThat(
+            EOcageTest.casTo(cage, 1L, new Data.ToPhi(3L)),
+            Matchers.equalTo(true)
+        );
+        MatcherAssert.assertThat(
+            new Dataized(copy).take(Long.class),
+            Matchers.equalTo(2L)
+        );
+    }
+
+    @Test
+    public void incrementsConcurrently() throws Exception {
+        final Phi cage = new EOcage(Phi.Φ);
+        EOcageTest.writeTo(cage, new Data.ToPhi(0L));
+        final int threads = 8;
+        final int loops = 500;
+        final ExecutorService service = Executors.newFixedThreadPool(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        final Collection<Future<?>> futures = new ArrayList<>(threads);
+        for (int thread = 0; thread < threads; ++thread) {
+            futures.add(
+                service.submit(
+                    () -> {
+                        start.await();
+                        for (int idx = 0; idx < loops; ++idx) {
+                            while (true) {
+                                final long version = new Dataized(
+                                    new PhMethod(cage, "version")
+                                ).take(Long.class);
+                                final long value = new Dataized(cage).take(Long.class);
+                                if (EOcageTest.casTo(
+                                    cage, version, new Data.ToPhi(value + 1L)
+                                )) {
+                                    break;
+                                }
+                            }
+                        }
+                        return null;
+                    }
+                )
+            );
+        }
+        start.countDown();
+        for (final Future<?> future : futures) {
+            future.get();
+        }
+        service.shutdown();
+        MatcherAssert.assertThat(
+            new Dataized(cage).take(Long.class),
+            Matchers.equalTo((long) threads * loops)
+        );
+        MatcherAssert.assertThat(
+            new Dataized(new PhMethod(cage, "version")).take(Long.class),
+            Matchers.equalTo((long) threads * loops + 1L)
+        );
+    }
+
+    private static boolean casTo(final Phi cage, final long version,
+        final Phi obj) {
+        return new Dataized(
+            new PhWith(
+                new PhWith(
+                    new PhCopy(new PhMethod(cage, "cas")),
+                    0,
+                    new Data.ToPhi(version)
+                ),
+                1,
+                obj
+            )
+        ).take(Boolean.class);
+    }
+
     private static void writeTo(final Phi cage, final Phi obj) {
         new Dataized(
             new PhWith(
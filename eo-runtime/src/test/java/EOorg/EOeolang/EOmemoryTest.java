@@ -23,6 +23,12 @@
  */
 package EOorg.EOeolang;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.eolang.Data;
 import org.eolang.Dataized;
 import org.eolang.PhCopy;
@@ -167,4 +173,117 @@ public final class EOmemoryTest {
             Matchers.equalTo(43L)
         );
     }
+
+    @Test
+    public void readsTheSameObjectUntilRewritten() {
+        final Phi mem = new EOmemory(Phi.Φ);
+        EOmemoryTest.writeTo(mem, new Data.ToPhi(1L));
+        final Phi first = mem.attr("φ").get();
+        MatcherAssert.assertThat(
+            mem.attr("φ").get(),
+            Matchers.equalTo(first)
+        );
+        EOmemoryTest.writeTo(mem, new Data.ToPhi(2L));
+        MatcherAssert.assertThat(
+            new Dataized(mem).take(Long.class),
+            Matchers.equalTo(2L)
+        );
+    }
+
+    @Test
+    public void addsAndGets() {
+        final Phi mem = new EOmemory(Phi.Φ);
+        EOmemoryTest.writeTo(mem, new Data.ToPhi(1.5d));
+        MatcherAssert.assertThat(
+            new Dataized(
+                new PhWith(
+                    new PhCopy(new PhMethod(mem, "add-and-get")),
+                    0, new Data.ToPhi(2.0d)
+                )
+            ).take(Double.class),
+            Matchers.equalTo(3.5d)
+        );
+        MatcherAssert.assertThat(
+            new Dataized(mem).take(Double.class),
+            Matchers.equalTo(3.5d)
+        );
+    }
+
+    @Test
+    public void comparesAndSets() {
+        final Phi mem = new EOmemory(Phi.Φ);
+        EOmemoryTest.writeTo(mem, new Data.ToPhi("Hello"));
+        MatcherAssert.assertThat(
+            EOmemoryTest.casTo(mem, new Data.ToPhi("Bye"), new Data.ToPhi("Hi")),
+            Matchers.equalTo(false)
+        );
+        MatcherAssert.assertThat(
+            EOmemoryTest.casTo(mem, new Data.ToPhi("Hello"), new Data.ToPhi("Hi")),
+            Matchers.equalTo(true)
+        );
+        MatcherAssert.assertThat(
+            new Dataized(mem).take(String.class),
+            Matchers.equalTo("Hi")
+        );
+    }
+
+    @Test
+    public void addsConcurrently() throws Exception {
+        final Phi mem = new EOmemory(Phi.Φ);
+        EOmemoryTest.writeTo(mem, new Data.ToPhi(0L));
+        final int threads = 8;
+        final int loops = 1000;
+        final ExecutorService service = Executors.newFixedThreadPool(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        final Collection<Future<?>> futures = new ArrayList<>(threads);
+        for (int thread = 0; thread < threads; ++thread) {
+            futures.add(
+                service.submit(
+                    () -> {
+                        start.await();
+                        for (int idx = 0; idx < loops; ++idx) {
+                            new Dataized(
+                                new PhWith(
+                                    new PhCopy(new PhMethod(mem, "add-and-get")),
+                                    0, new Data.ToPhi(1L)
+                                )
+                            ).take(Long.class);
+                        }
+                        return null;
+                    }
+                )
+            );
+        }
+        start.countDown();
+        for (final Future<?> future : futures) {
+            future.get();
+        }
+        service.shutdown();
+        MatcherAssert.assertThat(
+            new Dataized(mem).take(Long.class),
+            Matchers.equalTo((long) threads * loops)
+        );
+    }
+
+    private static void writeTo(final Phi mem, final Phi obj) {
+        new Dataized(
+            new PhWith(
+                new PhCopy(new PhMethod(mem, EOmemoryTest.WRITE)),
+                0, obj
+            )
+        ).take(Boolean.class);
+    }
+
+    private static boolean casTo(final Phi mem, final Phi expected,
+        final Phi obj) {
+        return new Dataized(
+            new PhWith(
+                new PhWith(
+                    new PhCopy(new PhMethod(mem, "cas")),
+                    0, expected
+                ),
+                1, obj
+            )
+        ).take(Boolean.class);
+    }
 }